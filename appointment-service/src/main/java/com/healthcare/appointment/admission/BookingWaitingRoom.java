@@ -0,0 +1,333 @@
+package com.healthcare.appointment.admission;
+
+import com.healthcare.appointment.dto.WaitingRoomTicketDTO;
+import com.healthcare.appointment.enums.WaitingRoomStatus;
+import com.healthcare.appointment.exception.WaitingRoomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for bookings. Each doctor has a FIFO waiting room: clients join it, poll their
+ * position and estimated wait, and are admitted a few at a time. An admitted client books with its
+ * token until the admission is used or expires, then the next in line is admitted. Bookings without a
+ * token go straight through only while the doctor's room is empty.
+ * <p>
+ * Independently of the rooms, at most {@code max-concurrent-bookings} bookings run at once, below the
+ * size of the connection pool, so a burst queues here instead of waiting on connections and timing
+ * out. Rooms live in memory on the replica that issued the ticket, so each replica admits its own
+ * share of clients; a ticket presented to another replica is unknown there and the client joins again.
+ */
+@Component
+public class BookingWaitingRoom {
+    private final ConcurrentMap<Integer, Room> rooms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Semaphore bookingPermits;
+    private final boolean enabled;
+    private final long acquireTimeoutMillis;
+    private final int admittedPerDoctor;
+    private final int maxQueuePerDoctor;
+    private final Duration admissionTtl;
+    private final Duration ticketTimeout;
+    private final double initialSessionSeconds;
+    private final Counter admittedCounter;
+    private final Counter abandonedCounter;
+    private final Counter rejectedCounter;
+    private final Counter throttledCounter;
+    private final Timer waitTimer;
+
+    public BookingWaitingRoom(
+            MeterRegistry meterRegistry,
+            @Value("${app.waiting-room.enabled:true}") boolean enabled,
+            @Value("${app.waiting-room.max-concurrent-bookings:16}") int maxConcurrentBookings,
+            @Value("${app.waiting-room.acquire-timeout-ms:2000}") long acquireTimeoutMillis,
+            @Value("${app.waiting-room.admitted-per-doctor:20}") int admittedPerDoctor,
+            @Value("${app.waiting-room.max-queue-per-doctor:5000}") int maxQueuePerDoctor,
+            @Value("${app.waiting-room.admission-ttl-seconds:120}") long admissionTtlSeconds,
+            @Value("${app.waiting-room.ticket-timeout-seconds:30}") long ticketTimeoutSeconds,
+            @Value("${app.waiting-room.initial-session-seconds:30}") double initialSessionSeconds) {
+        this.enabled = enabled;
+        this.bookingPermits = new Semaphore(maxConcurrentBookings, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.admittedPerDoctor = admittedPerDoctor;
+        this.maxQueuePerDoctor = maxQueuePerDoctor;
+        this.admissionTtl = Duration.ofSeconds(admissionTtlSeconds);
+        this.ticketTimeout = Duration.ofSeconds(ticketTimeoutSeconds);
+        this.initialSessionSeconds = initialSessionSeconds;
+        this.admittedCounter = meterRegistry.counter("appointment.waiting.room.tickets", "outcome", "admitted");
+        this.abandonedCounter = meterRegistry.counter("appointment.waiting.room.tickets", "outcome", "abandoned");
+        this.rejectedCounter = meterRegistry.counter("appointment.waiting.room.tickets", "outcome", "rejected");
+        this.throttledCounter = meterRegistry.counter("appointment.waiting.room.bookings.throttled");
+        this.waitTimer = meterRegistry.timer("appointment.waiting.room.wait");
+        Gauge.builder("appointment.waiting.room.queued", this, room -> room.count(WaitingRoomStatus.WAITING)).register(meterRegistry);
+        Gauge.builder("appointment.waiting.room.admitted", this, room -> room.count(WaitingRoomStatus.ADMITTED)).register(meterRegistry);
+        Gauge.builder("appointment.waiting.room.bookings.active", bookingPermits,
+                permits -> maxConcurrentBookings - permits.availablePermits()).register(meterRegistry);
+    }
+
+    public WaitingRoomTicketDTO join(Integer doctorId) {
+        while (true) {
+            Room room = rooms.computeIfAbsent(doctorId, Room::new);
+            synchronized (room) {
+                // the tick may have dropped this room as empty in the meantime
+                if (rooms.get(doctorId) != room) {
+                    continue;
+                }
+                if (room.waiting.size() >= maxQueuePerDoctor) {
+                    rejectedCounter.increment();
+                    throw new WaitingRoomException("The waiting room for doctor " + doctorId + " is full", 30);
+                }
+                Ticket ticket = new Ticket(UUID.randomUUID(), doctorId, room.nextSequence++);
+                room.waiting.addLast(ticket);
+                tickets.put(ticket.token, ticket);
+                room.admitWaiting();
+                return room.view(ticket);
+            }
+        }
+    }
+
+    /**
+     * Current position or admission of a ticket. Polling also keeps a waiting ticket alive.
+     */
+    public WaitingRoomTicketDTO status(UUID token) {
+        Ticket ticket = tickets.get(token);
+        Room room = ticket != null ? rooms.get(ticket.doctorId) : null;
+        if (room == null) {
+            throw new RuntimeException("Waiting room ticket not found with id: " + token);
+        }
+        synchronized (room) {
+            if (!tickets.containsKey(token)) {
+                throw new RuntimeException("Waiting room ticket not found with id: " + token);
+            }
+            ticket.lastSeen = LocalDateTime.now();
+            room.admitWaiting();
+            return room.view(ticket);
+        }
+    }
+
+    public void leave(UUID token) {
+        Ticket ticket = tickets.remove(token);
+        Room room = ticket != null ? rooms.get(ticket.doctorId) : null;
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            room.waiting.remove(ticket);
+            room.admitted.remove(token);
+            room.admitWaiting();
+        }
+    }
+
+    /**
+     * Runs {@code booking} for the doctor if the caller may book now: with an admission of that doctor,
+     * or without one while nobody is queued for the doctor. The admission is claimed under the room's
+     * lock for the duration of the booking, so concurrent requests with one token cannot both book. A
+     * successful booking uses up the admission and admits the next client; a failed one releases it to
+     * retry with another slot until it expires.
+     */
+    public <T> T book(Integer doctorId, UUID admissionToken, Supplier<T> booking) {
+        if (!enabled) {
+            return booking.get();
+        }
+        Ticket ticket = admissionToken != null ? claim(doctorId, admissionToken) : null;
+        if (ticket == null) {
+            Room room = rooms.get(doctorId);
+            if (room != null) {
+                synchronized (room) {
+                    if (!room.waiting.isEmpty() || room.admitted.size() >= admittedPerDoctor) {
+                        throw new WaitingRoomException("Bookings for doctor " + doctorId
+                                + " are queued; join the waiting room to get an admission", 5);
+                    }
+                }
+            }
+        }
+
+        boolean booked = false;
+        try {
+            T result = withPermit(booking);
+            booked = true;
+            return result;
+        } finally {
+            if (ticket != null) {
+                finish(ticket, booked);
+            }
+        }
+    }
+
+    private Ticket claim(Integer doctorId, UUID admissionToken) {
+        Ticket ticket = tickets.get(admissionToken);
+        Room room = ticket != null && ticket.doctorId.equals(doctorId) ? rooms.get(doctorId) : null;
+        if (room != null) {
+            synchronized (room) {
+                if (room.admitted.get(admissionToken) == ticket && ticket.admissionExpiresAt.isAfter(LocalDateTime.now())) {
+                    if (ticket.inUse) {
+                        throw new WaitingRoomException("Admission " + admissionToken
+                                + " is already used by another booking in progress", 1);
+                    }
+                    ticket.inUse = true;
+                    return ticket;
+                }
+            }
+        }
+        throw new WaitingRoomException("Admission " + admissionToken + " is not valid for doctor " + doctorId
+                + "; join the waiting room again", 1);
+    }
+
+    private <T> T withPermit(Supplier<T> booking) {
+        try {
+            if (!bookingPermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throttledCounter.increment();
+                throw new WaitingRoomException("Too many bookings in progress, try again shortly", 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WaitingRoomException("Interrupted while waiting to book", 1);
+        }
+        try {
+            return booking.get();
+        } finally {
+            bookingPermits.release();
+        }
+    }
+
+    private void finish(Ticket ticket, boolean booked) {
+        // a claimed admission keeps its room alive, unless the client left in the meantime
+        Room room = rooms.get(ticket.doctorId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            ticket.inUse = false;
+            if (booked) {
+                room.complete(ticket);
+                room.admitWaiting();
+            }
+        }
+    }
+
+    /**
+     * Drops tickets whose client stopped polling and admissions that were never used, then admits
+     * the next clients in line.
+     */
+    @Scheduled(fixedDelayString = "${app.waiting-room.tick-ms:1000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Room room : rooms.values()) {
+            synchronized (room) {
+                Iterator<Ticket> waiting = room.waiting.iterator();
+                while (waiting.hasNext()) {
+                    Ticket ticket = waiting.next();
+                    if (ticket.lastSeen.plus(ticketTimeout).isBefore(now)) {
+                        waiting.remove();
+                        tickets.remove(ticket.token);
+                        abandonedCounter.increment();
+                    }
+                }
+                room.admitted.values().removeIf(ticket -> {
+                    // an admission is not taken away while its booking is running
+                    boolean expired = !ticket.inUse && !ticket.admissionExpiresAt.isAfter(now);
+                    if (expired) {
+                        tickets.remove(ticket.token);
+                        abandonedCounter.increment();
+                    }
+                    return expired;
+                });
+                room.admitWaiting();
+                if (room.waiting.isEmpty() && room.admitted.isEmpty()) {
+                    rooms.remove(room.doctorId, room);
+                }
+            }
+        }
+    }
+
+    private double count(WaitingRoomStatus status) {
+        return tickets.values().stream().filter(ticket -> ticket.status == status).count();
+    }
+
+    private final class Room {
+        private final Integer doctorId;
+        private final ArrayDeque<Ticket> waiting = new ArrayDeque<>();
+        private final Map<UUID, Ticket> admitted = new HashMap<>();
+        private long nextSequence;
+        private long admittedSequence;
+        // moving average of how long an admitted client takes to book
+        private double sessionSeconds = initialSessionSeconds;
+
+        private Room(Integer doctorId) {
+            this.doctorId = doctorId;
+        }
+
+        private void admitWaiting() {
+            LocalDateTime now = LocalDateTime.now();
+            while (admitted.size() < admittedPerDoctor && !waiting.isEmpty()) {
+                Ticket ticket = waiting.pollFirst();
+                ticket.status = WaitingRoomStatus.ADMITTED;
+                ticket.admittedAt = now;
+                ticket.admissionExpiresAt = now.plus(admissionTtl);
+                admitted.put(ticket.token, ticket);
+                admittedSequence = ticket.sequence + 1;
+                admittedCounter.increment();
+                waitTimer.record(Duration.between(ticket.joinedAt, now));
+            }
+        }
+
+        private void complete(Ticket ticket) {
+            if (admitted.remove(ticket.token) == null) {
+                return;
+            }
+            tickets.remove(ticket.token);
+            double seconds = Duration.between(ticket.admittedAt, LocalDateTime.now()).toMillis() / 1000.0;
+            sessionSeconds = 0.8 * sessionSeconds + 0.2 * seconds;
+        }
+
+        /**
+         * Position counts the tickets that joined earlier and are not yet admitted, including any
+         * abandoned ones the next tick will drop, so it may shrink faster than one per admission.
+         */
+        private WaitingRoomTicketDTO view(Ticket ticket) {
+            if (ticket.status == WaitingRoomStatus.ADMITTED) {
+                return new WaitingRoomTicketDTO(ticket.token, doctorId, ticket.status, 0, 0, ticket.admissionExpiresAt);
+            }
+            long position = ticket.sequence - admittedSequence + 1;
+            long rounds = (position + admittedPerDoctor - 1) / admittedPerDoctor;
+            return new WaitingRoomTicketDTO(ticket.token, doctorId, ticket.status, position,
+                    Math.round(rounds * sessionSeconds), null);
+        }
+    }
+
+    private static final class Ticket {
+        private final UUID token;
+        private final Integer doctorId;
+        private final long sequence;
+        private final LocalDateTime joinedAt = LocalDateTime.now();
+        private volatile LocalDateTime lastSeen = joinedAt;
+        private volatile WaitingRoomStatus status = WaitingRoomStatus.WAITING;
+        private volatile LocalDateTime admittedAt;
+        private volatile LocalDateTime admissionExpiresAt;
+        // guarded by the room, set while a booking runs with this admission
+        private boolean inUse;
+
+        private Ticket(UUID token, Integer doctorId, long sequence) {
+            this.token = token;
+            this.doctorId = doctorId;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -16,13 +16,24 @@ public class CacheConfig {
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "appointments", "timeSlots"
+                "appointments", "doctorAppointments"
         );
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(5, TimeUnit.MINUTES)
                 .expireAfterAccess(2, TimeUnit.MINUTES)
                 .maximumSize(2000)
                 .recordStats());
+        // free slots also expire as the day passes, so they are not kept longer than a minute
+        cacheManager.registerCustomCache("timeSlots", Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .maximumSize(5000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("appointmentStatistics", Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.SECONDS)
+                .maximumSize(200)
+                .recordStats()
+                .build());
         return cacheManager;
     }
 }
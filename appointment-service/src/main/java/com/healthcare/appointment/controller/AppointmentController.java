@@ -1,21 +1,40 @@
 package com.healthcare.appointment.controller;
 
+import com.healthcare.appointment.admission.BookingWaitingRoom;
 import com.healthcare.appointment.dto.AppointmentDTO;
 import com.healthcare.appointment.dto.AppointmentDetailDTO;
+import com.healthcare.appointment.dto.AppointmentFilter;
+import com.healthcare.appointment.dto.AppointmentSeriesRequest;
+import com.healthcare.appointment.dto.AppointmentSeriesResultDTO;
+import com.healthcare.appointment.dto.AppointmentStatisticsDTO;
+import com.healthcare.appointment.dto.BulkStatusChangeRequest;
+import com.healthcare.appointment.dto.BulkStatusChangeResultDTO;
+import com.healthcare.appointment.dto.DoctorAgendaDTO;
+import com.healthcare.appointment.dto.DoctorSlotDTO;
 import com.healthcare.appointment.dto.RescheduleRequest;
+import com.healthcare.appointment.dto.SlotHoldDTO;
+import com.healthcare.appointment.dto.SlotHoldRequest;
 import com.healthcare.appointment.dto.TimeSlotDTO;
+import com.healthcare.appointment.dto.WaitingRoomTicketDTO;
+import com.healthcare.appointment.enums.AppointmentStatus;
 import com.healthcare.appointment.service.AppointmentService;
+import com.healthcare.common.pagination.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/appointments")
@@ -23,6 +42,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AppointmentController {
     private final AppointmentService appointmentService;
+    private final BookingWaitingRoom bookingWaitingRoom;
     
     @Operation(summary = "Get all appointments", description = "Retrieves a list of all appointments")
     @GetMapping
@@ -40,19 +60,85 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getAppointmentsPaged(page, size, sortBy, direction));
     }
     
+    @Operation(summary = "Get appointments (cursor)", description = "Retrieves appointments using keyset pagination; pass nextCursor from the previous response to continue")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<AppointmentDTO>> getAppointmentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(appointmentService.getAppointmentsByCursor(cursor, size, sortBy, direction));
+    }
+    
+    @Operation(summary = "Filter appointments", description = "Retrieves appointments matching all given filters, ordered by date, using keyset pagination; pass nextCursor from the previous response to continue")
+    @GetMapping("/filter")
+    public ResponseEntity<CursorPageDTO<AppointmentDTO>> filterAppointments(
+            @RequestParam(required = false) Integer patientId,
+            @RequestParam(required = false) Integer doctorId,
+            @RequestParam(required = false) List<AppointmentStatus> status,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String direction) {
+        AppointmentFilter filter = new AppointmentFilter(patientId, doctorId,
+                status == null || status.isEmpty() ? null : EnumSet.copyOf(status), from, to);
+        return ResponseEntity.ok(appointmentService.filterAppointments(filter, cursor, size, direction));
+    }
+    
+    @Operation(summary = "Export appointments", description = "Streams appointments between two dates (inclusive) as newline-delimited JSON")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportAppointments(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        // checked before streaming starts; once the body is being written the status is already 200
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Export 'to' date cannot be before 'from' date");
+        }
+        StreamingResponseBody body = out -> appointmentService.exportAppointments(from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+    
+    @Operation(summary = "Get appointment statistics", description = "Counts appointments in a date range by status, doctor, department, day and week")
+    @GetMapping("/statistics")
+    public ResponseEntity<AppointmentStatisticsDTO> getStatistics(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ResponseEntity.ok(appointmentService.getStatistics(from, to));
+    }
+    
     @Operation(summary = "Get appointment by ID", description = "Retrieves a specific appointment by its ID")
     @GetMapping("/{id}")
     public ResponseEntity<AppointmentDTO> getAppointmentById(@PathVariable Integer id) {
         return ResponseEntity.ok(appointmentService.getAppointmentById(id));
     }
     
-    @Operation(summary = "Create appointment", description = "Creates a new appointment")
+    @Operation(summary = "Create appointment", description = "Creates a new appointment; pass the token of a slot hold in X-Slot-Hold to book the held slot, and the admitted waiting room ticket in X-Admission while the doctor's bookings are queued")
     @PostMapping
-    public ResponseEntity<AppointmentDTO> createAppointment(@Valid @RequestBody AppointmentDTO appointmentDTO) {
-        AppointmentDTO created = appointmentService.createAppointment(appointmentDTO);
+    public ResponseEntity<AppointmentDTO> createAppointment(
+            @Valid @RequestBody AppointmentDTO appointmentDTO,
+            @RequestHeader(value = "X-Slot-Hold", required = false) UUID holdToken,
+            @RequestHeader(value = "X-Admission", required = false) UUID admissionToken) {
+        AppointmentDTO created = bookingWaitingRoom.book(appointmentDTO.getDoctorId(), admissionToken,
+                () -> appointmentService.createAppointment(appointmentDTO, holdToken));
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    @Operation(summary = "Create appointments in bulk", description = "Creates up to 500 appointments in one transaction; fails as a whole if any slot is taken")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<AppointmentDTO>> createAppointments(@Valid @RequestBody List<@Valid AppointmentDTO> appointmentDTOs) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.createAppointments(appointmentDTOs));
+    }
+    
+    @Operation(summary = "Create recurring appointments", description = "Books every occurrence of a daily, weekly or monthly series; responds 409 with the clashing occurrences unless skipConflicts is set")
+    @PostMapping("/series")
+    public ResponseEntity<AppointmentSeriesResultDTO> createAppointmentSeries(@Valid @RequestBody AppointmentSeriesRequest request) {
+        AppointmentSeriesResultDTO result = appointmentService.createAppointmentSeries(request);
+        return ResponseEntity.status(result.isCreated() ? HttpStatus.CREATED : HttpStatus.CONFLICT).body(result);
+    }
+    
     @Operation(summary = "Update appointment", description = "Updates an existing appointment")
     @PutMapping("/{id}")
     public ResponseEntity<AppointmentDTO> updateAppointment(@PathVariable Integer id, @Valid @RequestBody AppointmentDTO appointmentDTO) {
@@ -96,6 +182,14 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getAppointmentDetailsByDoctorId(doctorId));
     }
     
+    @Operation(summary = "Get doctor's daily agenda", description = "Retrieves a doctor's appointments on one day, ordered by time, with patient and doctor details")
+    @GetMapping("/doctor/{doctorId}/agenda")
+    public ResponseEntity<DoctorAgendaDTO> getDoctorAgenda(
+            @PathVariable Integer doctorId,
+            @RequestParam LocalDate date) {
+        return ResponseEntity.ok(appointmentService.getDoctorAgenda(doctorId, date));
+    }
+    
     @Operation(summary = "Get patient's appointments with doctor details", description = "Retrieves all appointments for a patient with doctor information")
     @GetMapping("/patient/{patientId}/details")
     public ResponseEntity<List<AppointmentDetailDTO>> getAppointmentDetailsByPatientId(@PathVariable Integer patientId) {
@@ -119,6 +213,60 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getAvailableTimeSlots(doctorId, date, excludeAppointmentId));
     }
     
+    @Operation(summary = "Stream available time slots", description = "Server-sent events: a 'slots' snapshot, then 'slot-taken' and 'slot-freed' deltas as bookings change; 'resync' asks the client to fetch the slots again")
+    @GetMapping(value = "/doctors/{doctorId}/available-slots/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailableTimeSlots(
+            @PathVariable Integer doctorId,
+            @RequestParam LocalDate date) {
+        return appointmentService.streamAvailableTimeSlots(doctorId, date);
+    }
+    
+    @Operation(summary = "Join a doctor's waiting room", description = "Queues for permission to book with the doctor; returns the position and estimated wait, or an admission once it is the caller's turn")
+    @PostMapping("/doctors/{doctorId}/waiting-room")
+    public ResponseEntity<WaitingRoomTicketDTO> joinWaitingRoom(@PathVariable Integer doctorId) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingWaitingRoom.join(doctorId));
+    }
+    
+    @Operation(summary = "Get waiting room ticket", description = "Returns the current position and estimated wait of a ticket; poll it to keep the place in the queue")
+    @GetMapping("/waiting-room/{token}")
+    public ResponseEntity<WaitingRoomTicketDTO> getWaitingRoomTicket(@PathVariable UUID token) {
+        return ResponseEntity.ok(bookingWaitingRoom.status(token));
+    }
+    
+    @Operation(summary = "Leave waiting room", description = "Gives up a place in the queue or an unused admission")
+    @DeleteMapping("/waiting-room/{token}")
+    public ResponseEntity<Void> leaveWaitingRoom(@PathVariable UUID token) {
+        bookingWaitingRoom.leave(token);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @Operation(summary = "Hold a time slot", description = "Reserves a free slot of the doctor for a few minutes while the booking is completed; held slots show as unavailable to others")
+    @PostMapping("/doctors/{doctorId}/holds")
+    public ResponseEntity<SlotHoldDTO> holdSlot(
+            @PathVariable Integer doctorId,
+            @Valid @RequestBody SlotHoldRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.holdSlot(doctorId, request));
+    }
+    
+    @Operation(summary = "Release a slot hold", description = "Frees a held slot without booking it")
+    @DeleteMapping("/holds/{token}")
+    public ResponseEntity<Void> releaseSlotHold(@PathVariable UUID token) {
+        appointmentService.releaseSlotHold(token);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @Operation(summary = "Search earliest available slots", description = "Finds the earliest free slots across all doctors of a specialization or department within a date window")
+    @GetMapping("/available-slots/search")
+    public ResponseEntity<List<DoctorSlotDTO>> searchEarliestAvailableSlots(
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) String department,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(defaultValue = "30") int slotMinutes,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(appointmentService.findEarliestAvailableSlots(specialization, department, from, to, slotMinutes, limit));
+    }
+    
     @Operation(summary = "Approve appointment", description = "Approves a pending appointment")
     @PatchMapping("/{id}/approve")
     public ResponseEntity<AppointmentDTO> approveAppointment(@PathVariable Integer id) {
@@ -133,4 +281,22 @@ public class AppointmentController {
         String reason = request != null ? request.get("reason") : null;
         return ResponseEntity.ok(appointmentService.rejectAppointment(id, reason));
     }
+    
+    @Operation(summary = "Approve appointments in bulk", description = "Approves up to 500 pending appointments in one update and reports an outcome per id")
+    @PatchMapping("/bulk/approve")
+    public ResponseEntity<List<BulkStatusChangeResultDTO>> approveAppointments(@Valid @RequestBody BulkStatusChangeRequest request) {
+        return ResponseEntity.ok(appointmentService.approveAppointments(request.getIds()));
+    }
+    
+    @Operation(summary = "Reject appointments in bulk", description = "Rejects up to 500 pending appointments in one update and reports an outcome per id")
+    @PatchMapping("/bulk/reject")
+    public ResponseEntity<List<BulkStatusChangeResultDTO>> rejectAppointments(@Valid @RequestBody BulkStatusChangeRequest request) {
+        return ResponseEntity.ok(appointmentService.rejectAppointments(request.getIds(), request.getReason()));
+    }
+    
+    @Operation(summary = "Cancel appointments in bulk", description = "Cancels up to 500 pending, scheduled or confirmed appointments in one update and reports an outcome per id")
+    @PatchMapping("/bulk/cancel")
+    public ResponseEntity<List<BulkStatusChangeResultDTO>> cancelAppointments(@Valid @RequestBody BulkStatusChangeRequest request) {
+        return ResponseEntity.ok(appointmentService.cancelAppointments(request.getIds(), request.getReason()));
+    }
 }
@@ -0,0 +1,176 @@
+package com.healthcare.appointment.directory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.appointment.event.DoctorEvent;
+import com.healthcare.appointment.feign.DoctorServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local replica of doctor-service, kept current from the compacted doctor event topic.
+ * Lookups are answered from memory; only doctors not yet replicated (e.g. right after startup)
+ * fall back to a Feign call. Fallback results are kept apart from the replica for a short TTL and
+ * never overwrite a replicated entry, so a slow REST response cannot roll back a newer event.
+ * Events older than the version already applied for a doctor are ignored.
+ */
+@Component
+public class DoctorDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(DoctorDirectory.class);
+
+    private final ConcurrentMap<Integer, DoctorProfile> profiles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final Cache<Integer, DoctorProfile> fetched;
+    private final DoctorServiceClient doctorServiceClient;
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    public DoctorDirectory(
+            DoctorServiceClient doctorServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${app.doctor-directory.fallback-ttl-seconds:60}") long fallbackTtlSeconds,
+            @Value("${app.doctor-directory.fallback-maximum-size:5000}") long fallbackMaximumSize) {
+        this.doctorServiceClient = doctorServiceClient;
+        this.fetched = Caffeine.newBuilder()
+                .maximumSize(fallbackMaximumSize)
+                .expireAfterWrite(fallbackTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fetched, "doctorDirectoryFallback");
+        this.hits = meterRegistry.counter("appointment.doctor.directory.lookups", "source", "local");
+        this.fallbacks = meterRegistry.counter("appointment.doctor.directory.lookups", "source", "remote");
+        Gauge.builder("appointment.doctor.directory.size", profiles, Map::size).register(meterRegistry);
+    }
+
+    public boolean isReplicated(Integer doctorId) {
+        return doctorId != null && profiles.containsKey(doctorId);
+    }
+
+    /**
+     * Returns the active doctor with the given id. A replicated but inactive doctor is reported
+     * as absent without a remote call; remote failures propagate to the caller.
+     */
+    public Optional<DoctorProfile> find(Integer doctorId) {
+        if (doctorId == null) {
+            return Optional.empty();
+        }
+        DoctorProfile profile = lookup(doctorId);
+        if (profile != null) {
+            hits.increment();
+        } else {
+            fallbacks.increment();
+            profile = store(DoctorProfile.fromMap(doctorServiceClient.getDoctorById(doctorId)));
+        }
+        return Optional.ofNullable(profile).filter(DoctorProfile::active);
+    }
+
+    /**
+     * Resolves several doctors at once, fetching all misses in one batch call. Doctors that are
+     * inactive or cannot be resolved are left out of the result.
+     */
+    public Map<Integer, DoctorProfile> findAll(Collection<Integer> doctorIds) {
+        Map<Integer, DoctorProfile> found = new HashMap<>();
+        Set<Integer> missing = new HashSet<>();
+        for (Integer doctorId : doctorIds) {
+            if (doctorId == null) {
+                continue;
+            }
+            DoctorProfile profile = lookup(doctorId);
+            if (profile == null) {
+                missing.add(doctorId);
+                continue;
+            }
+            hits.increment();
+            if (profile.active()) {
+                found.put(doctorId, profile);
+            }
+        }
+        if (!missing.isEmpty()) {
+            fallbacks.increment(missing.size());
+            try {
+                remember(doctorServiceClient.getDoctorsByIds(missing)).forEach(profile -> {
+                    if (profile.active()) {
+                        found.put(profile.id(), profile);
+                    }
+                });
+            } catch (Exception e) {
+                log.debug("Could not resolve doctors {} from doctor-service", missing, e);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Caches doctor records fetched through other doctor-service endpoints and returns them as profiles.
+     */
+    public List<DoctorProfile> remember(List<Map<String, Object>> doctors) {
+        if (doctors == null) {
+            return List.of();
+        }
+        return doctors.stream()
+                .map(DoctorProfile::fromMap)
+                .map(this::store)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Replicates the state carried by {@code event} unless a newer event for the same doctor was
+     * applied already. Returns whether the event was applied.
+     */
+    public boolean apply(DoctorEvent event) {
+        if (event == null || event.getId() == null) {
+            return false;
+        }
+        long version = event.getVersion() != null ? event.getVersion() : 0L;
+        boolean[] applied = {false};
+        versions.compute(event.getId(), (id, current) -> {
+            if (current != null && current > version) {
+                return current;
+            }
+            profiles.put(id, DoctorProfile.fromEvent(event));
+            applied[0] = true;
+            return version;
+        });
+        if (applied[0]) {
+            fetched.invalidate(event.getId());
+        }
+        return applied[0];
+    }
+
+    private DoctorProfile lookup(Integer doctorId) {
+        DoctorProfile profile = profiles.get(doctorId);
+        return profile != null ? profile : fetched.getIfPresent(doctorId);
+    }
+
+    private DoctorProfile store(DoctorProfile profile) {
+        if (profile == null) {
+            return null;
+        }
+        DoctorProfile replicated = profiles.get(profile.id());
+        if (replicated != null) {
+            return replicated;
+        }
+        fetched.put(profile.id(), profile);
+        return profile;
+    }
+}
@@ -0,0 +1,119 @@
+package com.healthcare.appointment.directory;
+
+import com.healthcare.appointment.event.DoctorEvent;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typed view of the doctor fields appointment-service needs. Working hours default to 09:00-17:00
+ * and a {@code null} set of working days means the doctor works every day.
+ */
+public record DoctorProfile(
+        Integer id,
+        String name,
+        String surname,
+        String specialization,
+        String department,
+        LocalTime workingHoursStart,
+        LocalTime workingHoursEnd,
+        Set<DayOfWeek> workingDays,
+        boolean active) {
+
+    private static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DEFAULT_DAY_END = LocalTime.of(17, 0);
+
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    public String fullName() {
+        return name + " " + surname;
+    }
+
+    public boolean worksOn(DayOfWeek day) {
+        return workingDays == null || workingDays.contains(day);
+    }
+
+    public static DoctorProfile fromEvent(DoctorEvent event) {
+        return new DoctorProfile(
+                event.getId(),
+                event.getName(),
+                event.getSurname(),
+                event.getSpecializationName(),
+                event.getDepartmentName(),
+                event.getWorkingHoursStart() != null ? event.getWorkingHoursStart() : DEFAULT_DAY_START,
+                event.getWorkingHoursEnd() != null ? event.getWorkingHoursEnd() : DEFAULT_DAY_END,
+                parseWorkingDays(event.getWorkingDays()),
+                !Boolean.FALSE.equals(event.getActive()));
+    }
+
+    /**
+     * Builds a profile from the untyped doctor-service REST payload used on a directory miss.
+     */
+    public static DoctorProfile fromMap(Map<String, Object> doctor) {
+        if (doctor == null || !(doctor.get("id") instanceof Number id)) {
+            return null;
+        }
+        Object specialization = doctor.get("specializationName") != null
+                ? doctor.get("specializationName")
+                : doctor.get("specialization");
+        return new DoctorProfile(
+                id.intValue(),
+                (String) doctor.get("name"),
+                (String) doctor.get("surname"),
+                specialization instanceof String value ? value : null,
+                (String) doctor.get("departmentName"),
+                parseTime(doctor.get("workingHoursStart"), DEFAULT_DAY_START),
+                parseTime(doctor.get("workingHoursEnd"), DEFAULT_DAY_END),
+                parseWorkingDays((String) doctor.get("workingDays")),
+                !Boolean.FALSE.equals(doctor.get("active")));
+    }
+
+    /**
+     * Accepts comma-separated day names plus the {@code MON-FRI} / {@code MONDAY-FRIDAY} shorthand.
+     * Unknown entries are ignored; a blank value means every day.
+     */
+    static Set<DayOfWeek> parseWorkingDays(String workingDays) {
+        if (workingDays == null || workingDays.isEmpty()) {
+            return null;
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : workingDays.split(",")) {
+            String trimmed = part.trim().toUpperCase();
+            if (trimmed.equals("MON-FRI") || trimmed.equals("MONDAY-FRIDAY")) {
+                days.addAll(WEEKDAYS);
+                continue;
+            }
+            try {
+                days.add(DayOfWeek.valueOf(trimmed));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return Collections.unmodifiableSet(days);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LocalTime parseTime(Object raw, LocalTime defaultTime) {
+        try {
+            if (raw instanceof String value) {
+                return LocalTime.parse(value);
+            }
+            if (raw instanceof Map) {
+                Map<String, Object> timeMap = (Map<String, Object>) raw;
+                if (timeMap.get("hour") instanceof Number hour && timeMap.get("minute") instanceof Number minute) {
+                    return LocalTime.of(hour.intValue(), minute.intValue());
+                }
+            }
+            if (raw instanceof List<?> parts && parts.size() >= 2
+                    && parts.get(0) instanceof Number hour && parts.get(1) instanceof Number minute) {
+                return LocalTime.of(hour.intValue(), minute.intValue());
+            }
+        } catch (RuntimeException ignored) {
+        }
+        return defaultTime;
+    }
+}
@@ -0,0 +1,80 @@
+package com.healthcare.appointment.directory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.appointment.feign.DoctorServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiled working schedules per doctor. A schedule is fetched from doctor-service once and then
+ * served from memory until a doctor event invalidates it. If doctor-service is unreachable the
+ * legacy working days and hours of the profile are used and kept for a short TTL, so an outage
+ * costs one timed-out call per doctor and TTL instead of one per request.
+ */
+@Component
+public class DoctorWorkingSchedules {
+
+    private static final Logger log = LoggerFactory.getLogger(DoctorWorkingSchedules.class);
+
+    private final DoctorServiceClient doctorServiceClient;
+    private final Cache<Integer, WorkingSchedule> schedules;
+    private final Cache<Integer, WorkingSchedule> fallbacks;
+
+    public DoctorWorkingSchedules(
+            DoctorServiceClient doctorServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${app.working-schedule.maximum-size:5000}") long maximumSize,
+            @Value("${app.working-schedule.expire-after-write-minutes:60}") long expireAfterWriteMinutes,
+            @Value("${app.working-schedule.fallback-ttl-seconds:30}") long fallbackTtlSeconds) {
+        this.doctorServiceClient = doctorServiceClient;
+        this.schedules = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        this.fallbacks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(fallbackTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, schedules, "doctorWorkingSchedules");
+        CaffeineCacheMetrics.monitor(meterRegistry, fallbacks, "doctorWorkingScheduleFallbacks");
+    }
+
+    public WorkingSchedule of(DoctorProfile doctor) {
+        WorkingSchedule fallback = fallbacks.getIfPresent(doctor.id());
+        if (fallback != null) {
+            return fallback;
+        }
+        // a failed load returns null, which Caffeine does not cache
+        WorkingSchedule schedule = schedules.get(doctor.id(), this::load);
+        return schedule != null ? schedule : fallbacks.get(doctor.id(), id -> WorkingSchedule.fromProfile(doctor));
+    }
+
+    private WorkingSchedule load(Integer doctorId) {
+        try {
+            return WorkingSchedule.compile(doctorServiceClient.getDoctorSchedule(doctorId, LocalDate.now()));
+        } catch (Exception e) {
+            log.debug("Could not load schedule of doctor {}, using working days and hours", doctorId, e);
+            return null;
+        }
+    }
+
+    public void invalidate(Integer doctorId) {
+        schedules.invalidate(doctorId);
+        fallbacks.invalidate(doctorId);
+    }
+
+    public void invalidateAll() {
+        schedules.invalidateAll();
+        fallbacks.invalidateAll();
+    }
+}
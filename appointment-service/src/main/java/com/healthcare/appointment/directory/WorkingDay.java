@@ -0,0 +1,59 @@
+package com.healthcare.appointment.directory;
+
+import com.healthcare.appointment.schedule.SlotBitmap;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiled working time of a doctor on one date: the shifts in start order plus a bitmap with every
+ * granule outside those shifts set, so it can be OR-ed straight into the day's occupancy.
+ * The bitmap is shared between dates and must not be modified.
+ */
+public record WorkingDay(List<Shift> shifts, SlotBitmap offHours) {
+
+    public static final WorkingDay OFF = new WorkingDay(List.of(), new SlotBitmap().complement());
+
+    private static final LocalDate ANY_DAY = LocalDate.EPOCH;
+
+    public record Shift(LocalTime start, LocalTime end) {
+    }
+
+    static WorkingDay of(List<Shift> shifts) {
+        if (shifts.isEmpty()) {
+            return OFF;
+        }
+        List<Shift> ordered = new ArrayList<>(shifts);
+        ordered.sort(Comparator.comparing(Shift::start));
+        SlotBitmap working = new SlotBitmap();
+        for (Shift shift : ordered) {
+            working.set(ceilGranule(shift.start()), floorGranule(shift.end()));
+        }
+        return new WorkingDay(List.copyOf(ordered), working.complement());
+    }
+
+    public boolean isWorking() {
+        return !shifts.isEmpty();
+    }
+
+    public boolean isWorkingAt(LocalTime time) {
+        int granule = floorGranule(time);
+        return offHours.isClear(granule, granule + 1);
+    }
+
+    public boolean isWorkingDuring(LocalTime start, LocalTime end) {
+        return start.isBefore(end) && offHours.isClear(floorGranule(start), ceilGranule(end));
+    }
+
+    private static int floorGranule(LocalTime time) {
+        return SlotBitmap.floorGranule(ANY_DAY, LocalDateTime.of(ANY_DAY, time));
+    }
+
+    private static int ceilGranule(LocalTime time) {
+        return SlotBitmap.ceilGranule(ANY_DAY, LocalDateTime.of(ANY_DAY, time));
+    }
+}
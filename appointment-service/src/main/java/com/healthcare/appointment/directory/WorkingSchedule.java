@@ -0,0 +1,149 @@
+package com.healthcare.appointment.directory;
+
+import com.healthcare.appointment.dto.DoctorScheduleDTO;
+import com.healthcare.appointment.dto.DoctorScheduleExceptionDTO;
+import com.healthcare.appointment.dto.DoctorShiftDTO;
+import com.healthcare.appointment.enums.ScheduleExceptionType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A doctor's working schedule compiled for constant-time lookups: one {@link WorkingDay} per weekday
+ * plus one per date touched by an exception or holiday. On those dates custom hours replace the
+ * weekly shifts first, then days off remove the whole day or the given interval.
+ */
+public final class WorkingSchedule {
+    private final Set<DayOfWeek> workingDays;
+    private final Map<DayOfWeek, WorkingDay> weekly;
+    private final Map<LocalDate, WorkingDay> exceptions;
+
+    private WorkingSchedule(Map<DayOfWeek, WorkingDay> weekly, Map<LocalDate, WorkingDay> exceptions) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        weekly.forEach((day, workingDay) -> {
+            if (workingDay.isWorking()) {
+                days.add(day);
+            }
+        });
+        this.workingDays = Collections.unmodifiableSet(days);
+        this.weekly = weekly;
+        this.exceptions = exceptions;
+    }
+
+    public WorkingDay on(LocalDate date) {
+        WorkingDay exception = exceptions.get(date);
+        return exception != null ? exception : weekly.get(date.getDayOfWeek());
+    }
+
+    public boolean isWorkingAt(LocalDateTime time) {
+        return on(time.toLocalDate()).isWorkingAt(time.toLocalTime());
+    }
+
+    /**
+     * Weekdays with at least one regular shift, ignoring dated exceptions.
+     */
+    public Set<DayOfWeek> workingDays() {
+        return workingDays;
+    }
+
+    public static WorkingSchedule compile(DoctorScheduleDTO schedule) {
+        Map<DayOfWeek, List<WorkingDay.Shift>> shiftsByDay = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            shiftsByDay.put(day, new ArrayList<>());
+        }
+        if (schedule.getShifts() != null) {
+            for (DoctorShiftDTO shift : schedule.getShifts()) {
+                if (shift.getDayOfWeek() != null && shift.getStartTime() != null && shift.getEndTime() != null
+                        && shift.getStartTime().isBefore(shift.getEndTime())) {
+                    shiftsByDay.get(shift.getDayOfWeek()).add(new WorkingDay.Shift(shift.getStartTime(), shift.getEndTime()));
+                }
+            }
+        }
+        Map<DayOfWeek, WorkingDay> weekly = new EnumMap<>(DayOfWeek.class);
+        shiftsByDay.forEach((day, shifts) -> weekly.put(day, WorkingDay.of(shifts)));
+
+        Map<LocalDate, List<DoctorScheduleExceptionDTO>> exceptionsByDate = new HashMap<>();
+        if (schedule.getExceptions() != null) {
+            for (DoctorScheduleExceptionDTO exception : schedule.getExceptions()) {
+                if (exception.getType() == null || exception.getStartDate() == null || exception.getEndDate() == null) {
+                    continue;
+                }
+                for (LocalDate date = exception.getStartDate(); !date.isAfter(exception.getEndDate()); date = date.plusDays(1)) {
+                    exceptionsByDate.computeIfAbsent(date, key -> new ArrayList<>()).add(exception);
+                }
+            }
+        }
+        Map<LocalDate, WorkingDay> exceptions = new HashMap<>();
+        exceptionsByDate.forEach((date, dated) ->
+                exceptions.put(date, WorkingDay.of(applyExceptions(shiftsByDay.get(date.getDayOfWeek()), dated))));
+        return new WorkingSchedule(weekly, exceptions);
+    }
+
+    /**
+     * Compiles the legacy working days and hours of a profile, used when doctor-service cannot
+     * provide the structured schedule.
+     */
+    public static WorkingSchedule fromProfile(DoctorProfile doctor) {
+        Map<DayOfWeek, WorkingDay> weekly = new EnumMap<>(DayOfWeek.class);
+        WorkingDay regular = doctor.workingHoursStart().isBefore(doctor.workingHoursEnd())
+                ? WorkingDay.of(List.of(new WorkingDay.Shift(doctor.workingHoursStart(), doctor.workingHoursEnd())))
+                : WorkingDay.OFF;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            weekly.put(day, doctor.worksOn(day) ? regular : WorkingDay.OFF);
+        }
+        return new WorkingSchedule(weekly, Map.of());
+    }
+
+    private static List<WorkingDay.Shift> applyExceptions(List<WorkingDay.Shift> regular,
+                                                          List<DoctorScheduleExceptionDTO> dated) {
+        List<WorkingDay.Shift> custom = new ArrayList<>();
+        for (DoctorScheduleExceptionDTO exception : dated) {
+            if (exception.getType() == ScheduleExceptionType.CUSTOM_HOURS && isInterval(exception)) {
+                custom.add(new WorkingDay.Shift(exception.getStartTime(), exception.getEndTime()));
+            }
+        }
+        List<WorkingDay.Shift> shifts = custom.isEmpty() ? regular : custom;
+        for (DoctorScheduleExceptionDTO exception : dated) {
+            if (exception.getType() != ScheduleExceptionType.DAY_OFF) {
+                continue;
+            }
+            if (!isInterval(exception)) {
+                return List.of();
+            }
+            shifts = subtract(shifts, exception.getStartTime(), exception.getEndTime());
+        }
+        return shifts;
+    }
+
+    private static List<WorkingDay.Shift> subtract(List<WorkingDay.Shift> shifts, LocalTime from, LocalTime to) {
+        List<WorkingDay.Shift> remaining = new ArrayList<>();
+        for (WorkingDay.Shift shift : shifts) {
+            if (!to.isAfter(shift.start()) || !from.isBefore(shift.end())) {
+                remaining.add(shift);
+                continue;
+            }
+            if (shift.start().isBefore(from)) {
+                remaining.add(new WorkingDay.Shift(shift.start(), from));
+            }
+            if (to.isBefore(shift.end())) {
+                remaining.add(new WorkingDay.Shift(to, shift.end()));
+            }
+        }
+        return remaining;
+    }
+
+    private static boolean isInterval(DoctorScheduleExceptionDTO exception) {
+        return exception.getStartTime() != null && exception.getEndTime() != null
+                && exception.getStartTime().isBefore(exception.getEndTime());
+    }
+}
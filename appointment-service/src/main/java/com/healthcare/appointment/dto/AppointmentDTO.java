@@ -1,6 +1,8 @@
 package com.healthcare.appointment.dto;
 
 import com.healthcare.appointment.enums.AppointmentStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -23,6 +25,8 @@ public class AppointmentDTO {
     @NotNull(message = "Appointment date is required")
     private LocalDateTime appointmentDate;
     
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 480, message = "Duration must be at most 480 minutes")
     private Integer durationMinutes;
     
     private AppointmentStatus status;
@@ -0,0 +1,20 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentFilter {
+    private Integer patientId;
+    private Integer doctorId;
+    private Set<AppointmentStatus> statuses;
+    private LocalDate from;
+    private LocalDate to;
+}
@@ -0,0 +1,62 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A recurring appointment: {@code occurrences} appointments starting at {@code firstAppointmentDate}
+ * and repeating every {@code interval} periods of {@code frequency}. Occurrences are numbered from 1;
+ * {@code skip} leaves some out and {@code adjustments} moves some to another start time, so a client
+ * can resolve the conflicts reported by a previous attempt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesRequest {
+    @NotNull(message = "Patient ID is required")
+    private Integer patientId;
+    
+    @NotNull(message = "Doctor ID is required")
+    private Integer doctorId;
+    
+    @NotNull(message = "First appointment date is required")
+    private LocalDateTime firstAppointmentDate;
+    
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 480, message = "Duration must be at most 480 minutes")
+    private Integer durationMinutes;
+    
+    @NotNull(message = "Frequency is required")
+    private RecurrenceFrequency frequency;
+    
+    @Min(value = 1, message = "Interval must be at least 1")
+    private int interval = 1;
+    
+    @Min(value = 1, message = "A series needs at least one occurrence")
+    @Max(value = 104, message = "A series can have at most 104 occurrences")
+    private int occurrences;
+    
+    private Set<Integer> skip = new HashSet<>();
+    
+    private Map<Integer, LocalDateTime> adjustments = new HashMap<>();
+    
+    /**
+     * Create the occurrences that are free and report the rest, instead of creating nothing.
+     */
+    private boolean skipConflicts;
+    
+    private String notes;
+    
+    private String reason;
+}
@@ -0,0 +1,17 @@
+package com.healthcare.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesResultDTO {
+    private boolean created;
+    private int createdCount;
+    private int conflictCount;
+    private List<SeriesOccurrenceDTO> occurrences;
+}
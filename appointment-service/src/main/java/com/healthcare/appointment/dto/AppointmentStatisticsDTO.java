@@ -0,0 +1,23 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentStatisticsDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private long total;
+    private Map<AppointmentStatus, Long> byStatus;
+    private Map<Integer, Long> byDoctor;
+    private Map<String, Long> byDepartment;
+    private Map<LocalDate, Long> byDay;
+    private Map<LocalDate, Long> byWeek;
+}
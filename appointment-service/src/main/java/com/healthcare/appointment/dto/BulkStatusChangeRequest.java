@@ -0,0 +1,19 @@
+package com.healthcare.appointment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeRequest {
+    @NotEmpty(message = "At least one appointment id is required")
+    private List<@NotNull Integer> ids;
+    
+    private String reason;
+}
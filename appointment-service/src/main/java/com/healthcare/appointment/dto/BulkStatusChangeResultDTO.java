@@ -0,0 +1,16 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.AppointmentStatus;
+import com.healthcare.appointment.enums.BulkStatusChangeOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeResultDTO {
+    private Integer id;
+    private BulkStatusChangeOutcome outcome;
+    private AppointmentStatus status;
+}
@@ -0,0 +1,19 @@
+package com.healthcare.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorAgendaDTO {
+    private Integer doctorId;
+    private String doctorName;
+    private String doctorSpecialization;
+    private LocalDate date;
+    private List<AppointmentDetailDTO> appointments;
+}
@@ -0,0 +1,19 @@
+package com.healthcare.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorScheduleDTO {
+    private Integer doctorId;
+    
+    private List<DoctorShiftDTO> shifts = new ArrayList<>();
+    
+    private List<DoctorScheduleExceptionDTO> exceptions = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.ScheduleExceptionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorScheduleExceptionDTO {
+    private Integer id;
+    private Integer doctorId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ScheduleExceptionType type;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String reason;
+}
@@ -0,0 +1,18 @@
+package com.healthcare.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSlotDTO {
+    private Integer doctorId;
+    private String doctorName;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String displayTime;
+}
@@ -1,5 +1,7 @@
 package com.healthcare.appointment.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,6 +16,8 @@ public class RescheduleRequest {
     @NotNull(message = "New appointment date is required")
     private LocalDateTime newAppointmentDate;
     
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 480, message = "Duration must be at most 480 minutes")
     private Integer durationMinutes;
 }
 
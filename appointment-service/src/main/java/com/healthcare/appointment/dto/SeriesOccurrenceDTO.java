@@ -0,0 +1,19 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.SeriesOccurrenceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesOccurrenceDTO {
+    private int occurrence;
+    private LocalDateTime appointmentDate;
+    private SeriesOccurrenceStatus status;
+    private Integer appointmentId;
+    private Integer conflictingAppointmentId;
+}
@@ -0,0 +1,17 @@
+package com.healthcare.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotDeltaDTO {
+    private Integer doctorId;
+    private Integer appointmentId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
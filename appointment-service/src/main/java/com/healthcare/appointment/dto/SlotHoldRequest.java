@@ -0,0 +1,25 @@
+package com.healthcare.appointment.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHoldRequest {
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startTime;
+    
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 480, message = "Duration must be at most 480 minutes")
+    private Integer durationMinutes;
+    
+    @Min(value = 1, message = "A slot must be held for at least 1 minute")
+    private Integer holdMinutes;
+}
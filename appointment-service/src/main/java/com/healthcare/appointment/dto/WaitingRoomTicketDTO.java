@@ -0,0 +1,21 @@
+package com.healthcare.appointment.dto;
+
+import com.healthcare.appointment.enums.WaitingRoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomTicketDTO {
+    private UUID token;
+    private Integer doctorId;
+    private WaitingRoomStatus status;
+    private long position;
+    private long estimatedWaitSeconds;
+    private LocalDateTime admissionExpiresAt;
+}
@@ -0,0 +1,45 @@
+package com.healthcare.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "appointment_outbox", indexes = {
+        @Index(name = "idx_appointment_outbox_pending", columnList = "sent_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent extends BaseEntity {
+    @Column(name = "event_key", nullable = false)
+    private String eventKey;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Column(length = 500)
+    private String failure;
+
+    public OutboxEvent(String eventKey, String eventType, String payload) {
+        this.eventKey = eventKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
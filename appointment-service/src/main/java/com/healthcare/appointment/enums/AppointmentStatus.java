@@ -1,6 +1,6 @@
 package com.healthcare.appointment.enums;
 
 public enum AppointmentStatus {
-    PENDING, SCHEDULED, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED, NO_SHOW, REJECTED
+    PENDING, SCHEDULED, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED, NO_SHOW, REJECTED, EXPIRED
 }
 
@@ -0,0 +1,5 @@
+package com.healthcare.appointment.enums;
+
+public enum BulkStatusChangeOutcome {
+    UPDATED, NOT_FOUND, INVALID_STATUS
+}
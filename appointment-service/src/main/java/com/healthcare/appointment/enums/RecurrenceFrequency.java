@@ -0,0 +1,24 @@
+package com.healthcare.appointment.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RecurrenceFrequency {
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Start of the occurrence {@code steps} periods after {@code first}. Always counted from the first
+     * occurrence, so a monthly series on the 31st does not drift after a short month.
+     */
+    public LocalDateTime occurrence(LocalDateTime first, long steps) {
+        return first.plus(steps, unit);
+    }
+}
@@ -0,0 +1,24 @@
+package com.healthcare.appointment.enums;
+
+import java.time.Duration;
+
+public enum ReminderType {
+    DAY_BEFORE(Duration.ofHours(24), "REMINDER_24H"),
+    HOUR_BEFORE(Duration.ofHours(1), "REMINDER_1H");
+
+    private final Duration lead;
+    private final String eventType;
+
+    ReminderType(Duration lead, String eventType) {
+        this.lead = lead;
+        this.eventType = eventType;
+    }
+
+    public Duration getLead() {
+        return lead;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+}
@@ -0,0 +1,5 @@
+package com.healthcare.appointment.enums;
+
+public enum ScheduleExceptionType {
+    DAY_OFF, CUSTOM_HOURS
+}
@@ -0,0 +1,5 @@
+package com.healthcare.appointment.enums;
+
+public enum WaitingRoomStatus {
+    WAITING, ADMITTED
+}
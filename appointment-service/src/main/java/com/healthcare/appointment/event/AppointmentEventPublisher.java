@@ -1,28 +1,43 @@
 package com.healthcare.appointment.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthcare.appointment.entity.Appointment;
+import com.healthcare.appointment.entity.OutboxEvent;
 import com.healthcare.appointment.enums.AppointmentStatus;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import com.healthcare.appointment.enums.ReminderType;
+import com.healthcare.appointment.repository.OutboxEventRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records appointment events in the outbox table as part of the caller's transaction.
+ * {@link OutboxRelay} forwards them to Kafka once committed.
+ */
 @Component
+@Transactional(propagation = Propagation.MANDATORY)
 public class AppointmentEventPublisher {
 
-    private final KafkaTemplate<String, AppointmentEvent> kafkaTemplate;
-    private final String topic;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
-    public AppointmentEventPublisher(
-            KafkaTemplate<String, AppointmentEvent> kafkaTemplate,
-            @Value("${app.kafka.topics.appointments:appointments-events}") String topic) {
-        this.kafkaTemplate = kafkaTemplate;
-        this.topic = topic;
+    public AppointmentEventPublisher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
     }
 
     public void publishCreated(Appointment appointment) {
         publish(appointment, "CREATED");
     }
 
+    public void publishCreated(Collection<Appointment> appointments) {
+        publishAll(appointments, "CREATED");
+    }
+
     public void publishApproved(Appointment appointment) {
         publish(appointment, "APPROVED");
     }
@@ -31,14 +46,51 @@ public class AppointmentEventPublisher {
         publish(appointment, "REJECTED");
     }
 
+    public void publishApproved(Collection<Appointment> appointments) {
+        publishAll(appointments, "APPROVED");
+    }
+
+    public void publishRejected(Collection<Appointment> appointments) {
+        publishAll(appointments, "REJECTED");
+    }
+
+    public void publishCancelled(Collection<Appointment> appointments) {
+        publishAll(appointments, "CANCELLED");
+    }
+
+    public void publishExpired(Collection<Appointment> appointments) {
+        publishAll(appointments, "EXPIRED");
+    }
+
     public void publishRescheduled(Appointment appointment) {
         publish(appointment, "RESCHEDULED");
     }
 
+    public void publishReminder(Appointment appointment, ReminderType reminderType) {
+        publish(appointment, reminderType.getEventType());
+    }
+
     private void publish(Appointment appointment, String type) {
         if (appointment == null) {
             return;
         }
+        outboxEventRepository.save(toOutboxEvent(appointment, type));
+    }
+
+    /**
+     * Writes one outbox row per appointment in a single {@code saveAll}, so the inserts go out as
+     * JDBC batches on flush.
+     */
+    private void publishAll(Collection<Appointment> appointments, String type) {
+        List<OutboxEvent> events = appointments.stream()
+                .map(appointment -> toOutboxEvent(appointment, type))
+                .toList();
+        if (!events.isEmpty()) {
+            outboxEventRepository.saveAll(events);
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(Appointment appointment, String type) {
         AppointmentEvent event = new AppointmentEvent();
         event.setId(appointment.getId());
         event.setPatientId(appointment.getPatientId());
@@ -49,8 +101,10 @@ public class AppointmentEventPublisher {
         event.setType(type);
 
         String key = appointment.getId() != null ? appointment.getId().toString() : type;
-        kafkaTemplate.send(topic, key, event);
+        try {
+            return new OutboxEvent(key, type, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize appointment event " + type + " for " + key, e);
+        }
     }
 }
-
-
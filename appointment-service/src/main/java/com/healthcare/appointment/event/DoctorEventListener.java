@@ -0,0 +1,74 @@
+package com.healthcare.appointment.event;
+
+import com.healthcare.appointment.directory.DoctorDirectory;
+import com.healthcare.appointment.directory.DoctorWorkingSchedules;
+import com.healthcare.appointment.schedule.DoctorAgendas;
+import com.healthcare.appointment.service.AppointmentCaches;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Feeds the local {@link DoctorDirectory} and drops compiled working schedules, agendas and cached
+ * time slots that the event made stale. Every instance uses its own consumer group, named after the
+ * host so a restart rejoins the same group, and seeks to the beginning whenever partitions are
+ * assigned, so it replays the compacted topic and holds a full replica. Events older than the
+ * replicated state are ignored and leave the caches alone.
+ */
+@Component
+public class DoctorEventListener implements ConsumerSeekAware {
+
+    private static final Logger log = LoggerFactory.getLogger(DoctorEventListener.class);
+
+    private static final String HOLIDAYS_CHANGED = "HOLIDAYS_CHANGED";
+
+    private final DoctorDirectory doctorDirectory;
+    private final DoctorWorkingSchedules doctorWorkingSchedules;
+    private final DoctorAgendas doctorAgendas;
+    private final AppointmentCaches appointmentCaches;
+
+    public DoctorEventListener(DoctorDirectory doctorDirectory, DoctorWorkingSchedules doctorWorkingSchedules,
+                               DoctorAgendas doctorAgendas, AppointmentCaches appointmentCaches) {
+        this.doctorDirectory = doctorDirectory;
+        this.doctorWorkingSchedules = doctorWorkingSchedules;
+        this.doctorAgendas = doctorAgendas;
+        this.appointmentCaches = appointmentCaches;
+    }
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.doctors:doctors-events}",
+            groupId = "${app.kafka.doctor-directory-group}",
+            properties = "auto.offset.reset=earliest")
+    public void handleDoctorEvent(DoctorEvent event) {
+        if (event == null) {
+            return;
+        }
+        log.debug("Received doctor event type={} id={} active={}", event.getType(), event.getId(), event.getActive());
+        if (HOLIDAYS_CHANGED.equals(event.getType())) {
+            doctorWorkingSchedules.invalidateAll();
+            appointmentCaches.evictAllSlots();
+            return;
+        }
+        if (event.getId() == null) {
+            return;
+        }
+        if (!doctorDirectory.apply(event)) {
+            log.debug("Ignored stale doctor event id={} version={}", event.getId(), event.getVersion());
+            return;
+        }
+        doctorWorkingSchedules.invalidate(event.getId());
+        doctorAgendas.evictDoctor(event.getId());
+        appointmentCaches.evictDoctorSlots(event.getId());
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        // the directory lives in memory, so every start rebuilds it from the whole topic
+        callback.seekToBeginning(assignments.keySet());
+    }
+}
@@ -0,0 +1,217 @@
+package com.healthcare.appointment.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.appointment.entity.OutboxEvent;
+import com.healthcare.appointment.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the appointment outbox to Kafka in batches. Each batch first takes a transaction-scoped
+ * advisory lock, so only one replica relays at a time; the others skip the run. Within a batch the
+ * records of one key are sent one after another, each only once the previous one was acknowledged,
+ * and the first failure stops that key. Records are marked sent only as far as they were
+ * acknowledged, so a later run resends each key from its first unacknowledged record on: consumers
+ * may see a record twice, but a later state of an appointment is never followed by an earlier one.
+ * A record whose payload cannot be read is marked failed and skipped rather than retried forever.
+ * Per-record send latency is recorded in {@code appointment.outbox.send}.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int RELAY_LOCK = 4002;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, AppointmentEvent> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String topic;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long sendTimeoutMillis;
+    private final Duration retention;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, AppointmentEvent> kafkaTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.kafka.topics.appointments:appointments-events}") String topic,
+            @Value("${app.outbox.batch-size:200}") int batchSize,
+            @Value("${app.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${app.outbox.send-timeout-ms:10000}") long sendTimeoutMillis,
+            @Value("${app.outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.retention = Duration.ofHours(retentionHours);
+        this.relayedCounter = meterRegistry.counter("appointment.outbox.relayed");
+        this.failedCounter = meterRegistry.counter("appointment.outbox.failed");
+        this.batchTimer = meterRegistry.timer("appointment.outbox.relay.batch");
+        this.sendSuccessTimer = sendTimer(meterRegistry, "success");
+        this.sendFailureTimer = sendTimer(meterRegistry, "failure");
+        Gauge.builder("appointment.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("appointment.outbox.lag.seconds", lagSeconds, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.linger-ms:200}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+                if (relayed == null || relayed < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay batch failed, will retry: {}", e.getMessage());
+        } finally {
+            refreshLag();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    public void purgeSent() {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+    }
+
+    /**
+     * Sends one batch and marks the records Kafka acknowledged as sent. Returns 0 without sending if
+     * another replica holds the relay lock.
+     */
+    private int relayBatch() {
+        if (!outboxEventRepository.tryLockRelay(RELAY_LOCK)) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.lockPendingBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<OutboxEvent>> byKey = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : batch) {
+            byKey.computeIfAbsent(outboxEvent.getEventKey(), key -> new ArrayList<>()).add(outboxEvent);
+        }
+        Queue<Integer> acknowledged = new ConcurrentLinkedQueue<>();
+        List<OutboxEvent> unreadable = new ArrayList<>();
+        // once the batch stops waiting, chains must not send anything its commit will not mark
+        AtomicBoolean open = new AtomicBoolean(true);
+        List<CompletableFuture<?>> chains = new ArrayList<>(byKey.size());
+        for (List<OutboxEvent> records : byKey.values()) {
+            CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+            for (OutboxEvent outboxEvent : records) {
+                AppointmentEvent event = deserialize(outboxEvent);
+                if (event == null) {
+                    unreadable.add(outboxEvent);
+                    continue;
+                }
+                chain = chain
+                        .thenCompose(previous -> open.get() ? send(outboxEvent, event)
+                                : CompletableFuture.failedFuture(new TimeoutException("Outbox batch timed out")))
+                        .thenRun(() -> acknowledged.add(outboxEvent.getId()));
+            }
+            chains.add(chain);
+        }
+        try {
+            CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new)).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaying outbox batch", e);
+        } catch (Exception e) {
+            log.warn("Outbox batch was only partly acknowledged by Kafka: {}", e.getMessage());
+        } finally {
+            open.set(false);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent outboxEvent : unreadable) {
+            log.error("Outbox event {} has an unreadable payload and will not be sent", outboxEvent.getId());
+            outboxEventRepository.markFailed(outboxEvent.getId(), now, "Unreadable payload");
+            failedCounter.increment();
+        }
+        List<Integer> sent = new ArrayList<>(acknowledged);
+        if (!sent.isEmpty()) {
+            outboxEventRepository.markSent(sent, now);
+            relayedCounter.increment(sent.size());
+        }
+        return sent.size() + unreadable.size();
+    }
+
+    private CompletableFuture<?> send(OutboxEvent outboxEvent, AppointmentEvent event) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return kafkaTemplate.send(topic, outboxEvent.getEventKey(), event)
+                    .whenComplete((result, ex) -> sample.stop(ex == null ? sendSuccessTimer : sendFailureTimer));
+        } catch (RuntimeException e) {
+            sample.stop(sendFailureTimer);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private AppointmentEvent deserialize(OutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), AppointmentEvent.class);
+        } catch (JsonProcessingException e) {
+            log.debug("Corrupt outbox payload for event {}", outboxEvent.getId(), e);
+            return null;
+        }
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("appointment.outbox.send")
+                .description("Time from send until Kafka acknowledged or rejected an outbox record")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void refreshLag() {
+        try {
+            pending.set(outboxEventRepository.countBySentAtIsNullAndFailedAtIsNull());
+            lagSeconds.set(outboxEventRepository.findFirstBySentAtIsNullAndFailedAtIsNullOrderByIdAsc()
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh outbox lag: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.healthcare.appointment.exception;
+
+public class AppointmentConflictException extends RuntimeException {
+    public AppointmentConflictException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.time.OffsetDateTime;
@@ -36,7 +38,8 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.BAD_REQUEST, "FIELD_VALIDATION_ERROR", generalMessage, req, fields);
     }
 
-    @ExceptionHandler({HttpMessageNotReadableException.class, MissingServletRequestParameterException.class, IllegalArgumentException.class})
+    @ExceptionHandler({HttpMessageNotReadableException.class, MissingServletRequestParameterException.class,
+            MethodArgumentTypeMismatchException.class, IllegalArgumentException.class})
     public ResponseEntity<ApiError> handleBadRequest(Exception ex, HttpServletRequest req) {
         Map<String, String> fields = new HashMap<>();
         String message = "Request format is invalid.";
@@ -75,6 +78,24 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, "DATA_INTEGRITY_VIOLATION", detailedMessage, req, fields);
     }
 
+    @ExceptionHandler(AppointmentConflictException.class)
+    public ResponseEntity<ApiError> handleAppointmentConflict(AppointmentConflictException ex, HttpServletRequest req) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("appointmentDate", ex.getMessage());
+        return build(HttpStatus.CONFLICT, "APPOINTMENT_CONFLICT", ex.getMessage(), req, fields);
+    }
+
+    @ExceptionHandler(WaitingRoomException.class)
+    public ResponseEntity<ApiError> handleWaitingRoom(WaitingRoomException ex, HttpServletRequest req) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("retryAfterSeconds", String.valueOf(ex.getRetryAfterSeconds()));
+        ApiError body = new ApiError("BOOKING_QUEUED", ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value(),
+                req.getRequestURI(), OffsetDateTime.now().toString(), fields);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     @ExceptionHandler(EmptyResultDataAccessException.class)
     public ResponseEntity<ApiError> handleEmptyResult(EmptyResultDataAccessException ex, HttpServletRequest req) {
         Map<String, String> fields = new HashMap<>();
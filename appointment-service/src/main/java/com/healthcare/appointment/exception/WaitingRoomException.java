@@ -0,0 +1,17 @@
+package com.healthcare.appointment.exception;
+
+/**
+ * The booking was not admitted right now; the client should retry after {@link #getRetryAfterSeconds()}.
+ */
+public class WaitingRoomException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public WaitingRoomException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,14 +1,33 @@
 package com.healthcare.appointment.feign;
 
+import com.healthcare.appointment.dto.DoctorScheduleDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "doctor-service")
 public interface DoctorServiceClient {
     @GetMapping("/doctors/{id}")
     Map<String, Object> getDoctorById(@PathVariable Integer id);
-}
 
+    @GetMapping("/doctors/batch")
+    List<Map<String, Object>> getDoctorsByIds(@RequestParam("ids") Collection<Integer> ids);
+
+    @GetMapping("/doctors/{id}/schedule")
+    DoctorScheduleDTO getDoctorSchedule(
+            @PathVariable Integer id,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from);
+
+    @GetMapping("/doctors/specialization/{specialization}")
+    List<Map<String, Object>> getDoctorsBySpecialization(@PathVariable String specialization);
+
+    @GetMapping("/doctors/department/{department}")
+    List<Map<String, Object>> getDoctorsByDepartment(@PathVariable String department);
+}
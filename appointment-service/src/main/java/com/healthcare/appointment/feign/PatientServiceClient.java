@@ -3,12 +3,17 @@ package com.healthcare.appointment.feign;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "patient-service")
 public interface PatientServiceClient {
     @GetMapping("/patients/{id}")
     Map<String, Object> getPatientById(@PathVariable Integer id);
-}
 
+    @GetMapping("/patients/batch")
+    List<Map<String, Object>> getPatientsByIds(@RequestParam("ids") Collection<Integer> ids);
+}
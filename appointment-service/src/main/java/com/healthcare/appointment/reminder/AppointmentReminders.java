@@ -0,0 +1,263 @@
+package com.healthcare.appointment.reminder;
+
+import com.healthcare.appointment.entity.Appointment;
+import com.healthcare.appointment.enums.AppointmentStatus;
+import com.healthcare.appointment.enums.ReminderType;
+import com.healthcare.appointment.event.AppointmentEventPublisher;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends 24h and 1h reminders for upcoming appointments from an in-memory {@link TimingWheel}.
+ * Reminders due within the next {@code horizon} are loaded in date windows, so the wheel only holds
+ * the near future no matter how many appointments are booked, and the database is read once per
+ * window rather than per reminder. Mutations in {@code AppointmentService} update the wheel after
+ * commit through {@link #track(Integer, Appointment)}.
+ * <p>
+ * Due reminders are re-checked against the database and published through the outbox in batches.
+ * Every instance runs its own wheel; a row in {@code appointment_reminders} is claimed before
+ * publishing so each reminder goes out once.
+ */
+@Component
+public class AppointmentReminders {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentReminders.class);
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final Duration loadWindow;
+    private final Duration catchUp;
+    private final Duration retryDelay;
+    private final int batchSize;
+    private final TimingWheel<ReminderKey, Reminder> wheel;
+    private volatile LocalDateTime loadedUntil;
+
+    public AppointmentReminders(
+            AppointmentRepository appointmentRepository,
+            AppointmentEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.reminders.enabled:true}") boolean enabled,
+            @Value("${app.reminders.horizon-minutes:30}") long horizonMinutes,
+            @Value("${app.reminders.load-window-minutes:10}") long loadWindowMinutes,
+            @Value("${app.reminders.catch-up-minutes:15}") long catchUpMinutes,
+            @Value("${app.reminders.retry-delay-seconds:30}") long retryDelaySeconds,
+            @Value("${app.reminders.batch-size:200}") int batchSize) {
+        this.appointmentRepository = appointmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+        this.loadWindow = Duration.ofMinutes(Math.max(1, loadWindowMinutes));
+        this.catchUp = Duration.ofMinutes(catchUpMinutes);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+        this.batchSize = batchSize;
+        // 1s ticks: a minute of seconds, an hour of minutes, a day of hours
+        this.wheel = new TimingWheel<>(1000, new int[]{60, 60, 24}, System.currentTimeMillis());
+        Gauge.builder("appointment.reminders.pending", this, AppointmentReminders::pending).register(meterRegistry);
+    }
+
+    /**
+     * Loads the reminders that fall due between the end of the last loaded window and
+     * {@code now + horizon}. The first run also picks up reminders missed during the last
+     * {@code catch-up} minutes, as long as their appointment is still ahead.
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.load-interval-ms:300000}", initialDelayString = "${app.reminders.initial-delay-ms:10000}")
+    public void loadUpcoming() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = loadedUntil != null ? loadedUntil : now.minus(catchUp);
+        LocalDateTime until = now.plus(horizon);
+        try {
+            while (windowStart.isBefore(until)) {
+                LocalDateTime windowEnd = windowStart.plus(loadWindow).isBefore(until) ? windowStart.plus(loadWindow) : until;
+                for (ReminderType type : ReminderType.values()) {
+                    loadWindow(type, windowStart, windowEnd);
+                }
+                loadedUntil = windowEnd;
+                windowStart = windowEnd;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Loading appointment reminders failed, will resume from {}: {}", loadedUntil, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.reminders.tick-ms:1000}")
+    public void fireDue() {
+        if (!enabled) {
+            return;
+        }
+        List<Reminder> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Reminder> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> publishBatch(batch));
+            } catch (RuntimeException e) {
+                log.warn("Publishing {} appointment reminders failed, retrying in {}: {}", batch.size(), retryDelay, e.getMessage());
+                LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+                synchronized (wheel) {
+                    batch.forEach(reminder -> wheel.schedule(reminder.key(), reminder, toMillis(retryAt)));
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.cleanup-interval-ms:3600000}")
+    public void purgeSent() {
+        transactionTemplate.executeWithoutResult(status ->
+                appointmentRepository.deleteRemindersBefore(LocalDateTime.now().minusDays(2)));
+    }
+
+    /**
+     * Keeps the wheel in line with a committed change: the old reminders of the appointment are
+     * dropped and, if it is still upcoming, new ones are scheduled for those due within the horizon.
+     * Later ones are left to the window that covers them. Pass {@code null} for a deleted appointment.
+     */
+    public void track(Integer appointmentId, Appointment appointment) {
+        if (!enabled || appointmentId == null) {
+            return;
+        }
+        LocalDateTime appointmentDate = appointment != null && remindable(appointment.getStatus())
+                ? appointment.getAppointmentDate()
+                : null;
+        Runnable update = () -> {
+            LocalDateTime now = LocalDateTime.now();
+            synchronized (wheel) {
+                for (ReminderType type : ReminderType.values()) {
+                    ReminderKey key = new ReminderKey(appointmentId, type);
+                    wheel.cancel(key);
+                    LocalDateTime fireAt = appointmentDate != null ? appointmentDate.minus(type.getLead()) : null;
+                    if (fireAt != null && !fireAt.isBefore(now) && fireAt.isBefore(now.plus(horizon))) {
+                        wheel.schedule(key, new Reminder(key, appointmentDate), toMillis(fireAt));
+                    }
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private void loadWindow(ReminderType type, LocalDateTime fireFrom, LocalDateTime fireUntil) {
+        List<Appointment> appointments = readOnlyTransactionTemplate.execute(status -> appointmentRepository
+                .findByDateRange(fireFrom.plus(type.getLead()), fireUntil.plus(type.getLead())));
+        if (appointments == null || appointments.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (wheel) {
+            for (Appointment appointment : appointments) {
+                if (!remindable(appointment.getStatus()) || !appointment.getAppointmentDate().isAfter(now)) {
+                    continue;
+                }
+                ReminderKey key = new ReminderKey(appointment.getId(), type);
+                wheel.schedule(key, new Reminder(key, appointment.getAppointmentDate()),
+                        toMillis(appointment.getAppointmentDate().minus(type.getLead())));
+            }
+        }
+    }
+
+    /**
+     * Publishes the reminders whose appointment is unchanged since they were scheduled. If the
+     * appointment moved, the reminder is moved with it instead, which also repairs a reminder a
+     * concurrent window load scheduled from a stale read.
+     */
+    private void publishBatch(List<Reminder> batch) {
+        Map<Integer, Appointment> appointments = appointmentRepository
+                .findAllById(batch.stream().map(reminder -> reminder.key().appointmentId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        List<Reminder> moved = new ArrayList<>();
+        for (Reminder reminder : batch) {
+            Appointment appointment = appointments.get(reminder.key().appointmentId());
+            if (appointment == null || !remindable(appointment.getStatus()) || !appointment.getAppointmentDate().isAfter(now)) {
+                count("skipped", reminder);
+                continue;
+            }
+            if (!appointment.getAppointmentDate().equals(reminder.appointmentDate())) {
+                moved.add(new Reminder(reminder.key(), appointment.getAppointmentDate()));
+                continue;
+            }
+            if (appointmentRepository.claimReminder(appointment.getId(), reminder.key().type().name(), appointment.getAppointmentDate()) == 0) {
+                count("duplicate", reminder);
+                continue;
+            }
+            eventPublisher.publishReminder(appointment, reminder.key().type());
+            count("sent", reminder);
+        }
+        if (!moved.isEmpty()) {
+            synchronized (wheel) {
+                for (Reminder reminder : moved) {
+                    LocalDateTime fireAt = reminder.appointmentDate().minus(reminder.key().type().getLead());
+                    if (!fireAt.isBefore(now) && fireAt.isBefore(now.plus(horizon))) {
+                        wheel.schedule(reminder.key(), reminder, toMillis(fireAt));
+                    }
+                }
+            }
+        }
+    }
+
+    private void count(String outcome, Reminder reminder) {
+        meterRegistry.counter("appointment.reminders", "type", reminder.key().type().name(), "outcome", outcome).increment();
+    }
+
+    private double pending() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private static boolean remindable(AppointmentStatus status) {
+        return status == AppointmentStatus.SCHEDULED || status == AppointmentStatus.CONFIRMED;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    record ReminderKey(Integer appointmentId, ReminderType type) {
+    }
+
+    record Reminder(ReminderKey key, LocalDateTime appointmentDate) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.healthcare.appointment.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical hashed timing wheel. The tick of each level spans the whole level below it, so a
+ * deadline sits in the coarsest level that can still resolve it and drops a level each time its
+ * slot comes round. Scheduling, replacing and cancelling a key are O(1); advancing costs one step
+ * per elapsed tick plus the entries that cascade or expire. Deadlines beyond the top level wait in
+ * its last slot and are re-placed when it is reached.
+ * <p>
+ * Not thread-safe; callers synchronize.
+ */
+final class TimingWheel<K, V> {
+    private final long tickMillis;
+    private final int[] slots;
+    private final long[] levelTicks;
+    private final Entry<K, V>[][] buckets;
+    private final Entry<K, V> overdue = new Entry<>(null, null, 0);
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int[] slotsPerLevel, long startMillis) {
+        if (tickMillis <= 0 || slotsPerLevel.length == 0) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick and at least one level");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = slotsPerLevel.clone();
+        this.levelTicks = new long[slots.length];
+        this.buckets = new Entry[slots.length][];
+        long span = 1;
+        for (int level = 0; level < slots.length; level++) {
+            levelTicks[level] = span;
+            buckets[level] = new Entry[slots[level]];
+            for (int slot = 0; slot < slots[level]; slot++) {
+                buckets[level][slot] = new Entry<>(null, null, 0);
+            }
+            span = Math.multiplyExact(span, slots[level]);
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules {@code value} under {@code key}, replacing any entry already held for that key.
+     */
+    void schedule(K key, V value, long deadlineMillis) {
+        cancel(key);
+        Entry<K, V> entry = new Entry<>(key, value, Math.floorDiv(deadlineMillis, tickMillis));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and returns the values whose deadline has passed.
+     */
+    List<V> advance(long nowMillis) {
+        List<V> expired = new ArrayList<>();
+        drain(overdue, expired);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = slots.length - 1; level > 0; level--) {
+                if (currentTick % levelTicks[level] == 0) {
+                    cascade(buckets[level][slotOf(level, currentTick / levelTicks[level])]);
+                }
+            }
+            drain(buckets[0][slotOf(0, currentTick)], expired);
+            drain(overdue, expired);
+        }
+        return expired;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void place(Entry<K, V> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            entry.linkAfter(overdue);
+            return;
+        }
+        for (int level = 0; level < slots.length; level++) {
+            long deadline = entry.deadlineTick / levelTicks[level];
+            if (deadline - currentTick / levelTicks[level] < slots[level]) {
+                entry.linkAfter(buckets[level][slotOf(level, deadline)]);
+                return;
+            }
+        }
+        int top = slots.length - 1;
+        entry.linkAfter(buckets[top][slotOf(top, currentTick / levelTicks[top] + slots[top] - 1)]);
+    }
+
+    private void cascade(Entry<K, V> head) {
+        Entry<K, V> entry = head.next;
+        while (entry != head) {
+            Entry<K, V> next = entry.next;
+            entry.unlink();
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void drain(Entry<K, V> head, List<V> expired) {
+        Entry<K, V> entry = head.next;
+        while (entry != head) {
+            Entry<K, V> next = entry.next;
+            entry.unlink();
+            entries.remove(entry.key);
+            expired.add(entry.value);
+            entry = next;
+        }
+    }
+
+    private int slotOf(int level, long levelTick) {
+        return (int) Math.floorMod(levelTick, (long) slots[level]);
+    }
+
+    /**
+     * Node of a circular doubly linked bucket list; a bucket's head is a sentinel with no key.
+     */
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private Entry<K, V> prev = this;
+        private Entry<K, V> next = this;
+
+        private Entry(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void linkAfter(Entry<K, V> head) {
+            prev = head;
+            next = head.next;
+            head.next.prev = this;
+            head.next = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+}
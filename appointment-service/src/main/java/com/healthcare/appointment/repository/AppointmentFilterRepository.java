@@ -0,0 +1,18 @@
+package com.healthcare.appointment.repository;
+
+import com.healthcare.appointment.dto.AppointmentDTO;
+import com.healthcare.appointment.entity.Appointment;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface AppointmentFilterRepository {
+
+    /**
+     * Scrolls appointments matching {@code spec} ordered by {@code (appointmentDate, id)}, selecting
+     * straight into DTOs so no entities enter the persistence context.
+     */
+    Window<AppointmentDTO> scrollFiltered(Specification<Appointment> spec, KeysetScrollPosition position,
+                                          Sort.Direction direction, int limit);
+}
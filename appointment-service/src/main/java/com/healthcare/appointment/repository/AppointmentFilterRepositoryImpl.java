@@ -0,0 +1,74 @@
+package com.healthcare.appointment.repository;
+
+import com.healthcare.appointment.dto.AppointmentDTO;
+import com.healthcare.appointment.entity.Appointment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class AppointmentFilterRepositoryImpl implements AppointmentFilterRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Window<AppointmentDTO> scrollFiltered(Specification<Appointment> spec, KeysetScrollPosition position,
+                                                 Sort.Direction direction, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AppointmentDTO> query = cb.createQuery(AppointmentDTO.class);
+        Root<Appointment> root = query.from(Appointment.class);
+        Path<LocalDateTime> date = root.get("appointmentDate");
+        Path<Integer> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        Map<String, Object> keys = position.getKeys();
+        if (!keys.isEmpty()) {
+            LocalDateTime lastDate = (LocalDateTime) keys.get("appointmentDate");
+            Integer lastId = (Integer) keys.get("id");
+            predicates.add(direction.isAscending()
+                    ? cb.or(cb.greaterThan(date, lastDate), cb.and(cb.equal(date, lastDate), cb.greaterThan(id, lastId)))
+                    : cb.or(cb.lessThan(date, lastDate), cb.and(cb.equal(date, lastDate), cb.lessThan(id, lastId))));
+        }
+
+        query.select(cb.construct(AppointmentDTO.class,
+                        id, root.get("patientId"), root.get("doctorId"), date, root.get("durationMinutes"),
+                        root.get("status"), root.get("notes"), root.get("reason")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(direction.isAscending()
+                        ? List.of(cb.asc(date), cb.asc(id))
+                        : List.of(cb.desc(date), cb.desc(id)));
+
+        // one extra row tells whether another page exists
+        List<AppointmentDTO> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<AppointmentDTO> content = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(content, index -> positionOf(content.get(index)), hasNext);
+    }
+
+    private static ScrollPosition positionOf(AppointmentDTO dto) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("appointmentDate", dto.getAppointmentDate());
+        keys.put("id", dto.getId());
+        return ScrollPosition.forward(keys);
+    }
+}
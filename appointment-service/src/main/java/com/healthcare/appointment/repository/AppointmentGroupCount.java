@@ -0,0 +1,10 @@
+package com.healthcare.appointment.repository;
+
+/**
+ * One row of a {@code GROUP BY} over appointments: the grouping value and its count.
+ */
+public interface AppointmentGroupCount {
+    Object getGroupKey();
+
+    long getTotal();
+}
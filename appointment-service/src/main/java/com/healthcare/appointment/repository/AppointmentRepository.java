@@ -1,26 +1,117 @@
 package com.healthcare.appointment.repository;
 
 import com.healthcare.appointment.entity.Appointment;
+import com.healthcare.appointment.enums.AppointmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Integer> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Integer>, AppointmentFilterRepository {
+    Window<Appointment> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
     List<Appointment> findByPatientId(Integer patientId);
     
     List<Appointment> findByDoctorId(Integer doctorId);
     
-    List<Appointment> findByStatus(String status);
+    List<Appointment> findByStatus(AppointmentStatus status);
     
     @Query("SELECT a FROM Appointment a WHERE a.appointmentDate BETWEEN :startDate AND :endDate")
     List<Appointment> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
     @Query("SELECT a FROM Appointment a WHERE a.doctorId = :doctorId AND a.appointmentDate BETWEEN :startDate AND :endDate")
     List<Appointment> findByDoctorIdAndDateRange(@Param("doctorId") Integer doctorId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT a FROM Appointment a WHERE a.doctorId IN :doctorIds AND a.appointmentDate BETWEEN :startDate AND :endDate")
+    List<Appointment> findByDoctorIdInAndDateRange(@Param("doctorIds") Collection<Integer> doctorIds, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT a.status AS groupKey, COUNT(a) AS total FROM Appointment a " +
+           "WHERE a.appointmentDate >= :startDate AND a.appointmentDate < :endDate GROUP BY a.status")
+    List<AppointmentGroupCount> countByStatus(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT a.doctorId AS groupKey, COUNT(a) AS total FROM Appointment a " +
+           "WHERE a.appointmentDate >= :startDate AND a.appointmentDate < :endDate GROUP BY a.doctorId")
+    List<AppointmentGroupCount> countByDoctor(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT CAST(a.appointmentDate AS LocalDate) AS groupKey, COUNT(a) AS total FROM Appointment a " +
+           "WHERE a.appointmentDate >= :startDate AND a.appointmentDate < :endDate GROUP BY CAST(a.appointmentDate AS LocalDate)")
+    List<AppointmentGroupCount> countByDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM Appointment a WHERE a.appointmentDate >= :startDate AND a.appointmentDate < :endDate ORDER BY a.appointmentDate, a.id")
+    Stream<Appointment> streamByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:namespace, :doctorId)", nativeQuery = true)
+    Integer lockDoctorSchedule(@Param("namespace") int namespace, @Param("doctorId") int doctorId);
+    
+    /**
+     * Appointments last at most 480 minutes, so only those starting less than that before
+     * {@code startDate} can reach into the range; the lower bound keeps the index range scan short.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM appointments a WHERE a.doctor_id = :doctorId AND a.id <> :excludeId " +
+           "AND a.status NOT IN ('CANCELLED', 'REJECTED', 'EXPIRED') AND a.appointment_date < :endDate " +
+           "AND a.appointment_date > CAST(:startDate AS timestamp) - interval '480 minutes' " +
+           "AND a.appointment_date + make_interval(mins => COALESCE(a.duration_minutes, 30)) > :startDate)", nativeQuery = true)
+    boolean existsOverlapping(@Param("doctorId") Integer doctorId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, @Param("excludeId") Integer excludeId);
+    
+    @Query(value = "SELECT a.* FROM appointments a WHERE a.doctor_id = :doctorId " +
+           "AND a.status NOT IN ('CANCELLED', 'REJECTED', 'EXPIRED') AND a.appointment_date < :endDate " +
+           "AND a.appointment_date > CAST(:startDate AS timestamp) - interval '480 minutes' " +
+           "AND a.appointment_date + make_interval(mins => COALESCE(a.duration_minutes, 30)) > :startDate " +
+           "ORDER BY a.appointment_date", nativeQuery = true)
+    List<Appointment> findOverlapping(@Param("doctorId") Integer doctorId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Moves the given appointments that are still in one of {@code fromStatuses} to {@code toStatus} in
+     * one statement, appending {@code note} to their notes when it is not null, and returns the ids of
+     * the rows it changed.
+     */
+    @Query(value = "UPDATE appointments SET status = :toStatus, last_modified_date = :modifiedAt, " +
+           "notes = CASE WHEN CAST(:note AS text) IS NULL THEN notes ELSE COALESCE(notes || E'\\n', '') || CAST(:note AS text) END " +
+           "WHERE id IN (:ids) AND status IN (:fromStatuses) RETURNING id", nativeQuery = true)
+    List<Integer> transitionStatus(@Param("ids") Collection<Integer> ids, @Param("fromStatuses") Collection<String> fromStatuses,
+                                   @Param("toStatus") String toStatus, @Param("note") String note, @Param("modifiedAt") LocalDateTime modifiedAt);
+    
+    /**
+     * Expires the next {@code limit} PENDING appointments that started before {@code cutoff}, in
+     * (appointment date, id) order after the given keyset position, and returns them as updated.
+     * Rows locked by a running transaction are skipped rather than waited for.
+     */
+    @Query(value = "UPDATE appointments SET status = 'EXPIRED', last_modified_date = :modifiedAt WHERE id IN (" +
+           "SELECT id FROM appointments WHERE status = 'PENDING' AND appointment_date < :cutoff " +
+           "AND (appointment_date, id) > (:afterDate, :afterId) " +
+           "ORDER BY appointment_date, id LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *", nativeQuery = true)
+    List<Appointment> expirePendingBefore(@Param("cutoff") LocalDateTime cutoff, @Param("afterDate") LocalDateTime afterDate,
+                                          @Param("afterId") Integer afterId, @Param("limit") int limit,
+                                          @Param("modifiedAt") LocalDateTime modifiedAt);
+    
+    Optional<Appointment> findFirstByStatusAndAppointmentDateBeforeOrderByAppointmentDateAsc(AppointmentStatus status, LocalDateTime before);
+    
+    @Modifying
+    @Query(value = "INSERT INTO appointment_reminders (appointment_id, reminder_type, appointment_date, sent_at) " +
+           "VALUES (:appointmentId, :reminderType, :appointmentDate, now()) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int claimReminder(@Param("appointmentId") Integer appointmentId, @Param("reminderType") String reminderType, @Param("appointmentDate") LocalDateTime appointmentDate);
+    
+    @Modifying
+    @Query(value = "DELETE FROM appointment_reminders WHERE appointment_date < :cutoff", nativeQuery = true)
+    int deleteRemindersBefore(@Param("cutoff") LocalDateTime cutoff);
 }
-
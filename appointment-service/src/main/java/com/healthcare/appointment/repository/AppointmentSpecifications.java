@@ -0,0 +1,45 @@
+package com.healthcare.appointment.repository;
+
+import com.healthcare.appointment.dto.AppointmentFilter;
+import com.healthcare.appointment.entity.Appointment;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Predicates over {@link Appointment} that combine into one {@code WHERE} clause. Every predicate
+ * targets a column covered by an index from the query index migration.
+ */
+public final class AppointmentSpecifications {
+
+    private AppointmentSpecifications() {
+    }
+
+    public static Specification<Appointment> matching(AppointmentFilter filter) {
+        Specification<Appointment> spec = Specification.where(null);
+        if (filter.getPatientId() != null) {
+            spec = spec.and(hasPatient(filter.getPatientId()));
+        }
+        if (filter.getDoctorId() != null) {
+            spec = spec.and(hasDoctor(filter.getDoctorId()));
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("status").in(filter.getStatuses()));
+        }
+        if (filter.getFrom() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("appointmentDate"), filter.getFrom().atStartOfDay()));
+        }
+        if (filter.getTo() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThan(root.get("appointmentDate"), filter.getTo().plusDays(1).atStartOfDay()));
+        }
+        return spec;
+    }
+
+    public static Specification<Appointment> hasPatient(Integer patientId) {
+        return (root, query, cb) -> cb.equal(root.get("patientId"), patientId);
+    }
+
+    public static Specification<Appointment> hasDoctor(Integer doctorId) {
+        return (root, query, cb) -> cb.equal(root.get("doctorId"), doctorId);
+    }
+}
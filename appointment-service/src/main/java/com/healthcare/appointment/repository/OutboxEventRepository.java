@@ -0,0 +1,38 @@
+package com.healthcare.appointment.repository;
+
+import com.healthcare.appointment.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Integer> {
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:namespace, 0)", nativeQuery = true)
+    boolean tryLockRelay(@Param("namespace") int namespace);
+    
+    @Query(value = "SELECT * FROM appointment_outbox WHERE sent_at IS NULL AND failed_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<OutboxEvent> lockPendingBatch(@Param("limit") int limit);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Integer> ids, @Param("sentAt") LocalDateTime sentAt);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.failedAt = :failedAt, o.failure = :failure WHERE o.id = :id")
+    int markFailed(@Param("id") Integer id, @Param("failedAt") LocalDateTime failedAt, @Param("failure") String failure);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    long countBySentAtIsNullAndFailedAtIsNull();
+    
+    Optional<OutboxEvent> findFirstBySentAtIsNullAndFailedAtIsNullOrderByIdAsc();
+}
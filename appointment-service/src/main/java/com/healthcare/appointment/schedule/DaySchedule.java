@@ -0,0 +1,74 @@
+package com.healthcare.appointment.schedule;
+
+import com.healthcare.appointment.entity.Appointment;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bookings of a single doctor on a single day together with their occupancy bitmap.
+ * The bookings are kept so the bitmap can be rebuilt when one is removed or excluded.
+ */
+public final class DaySchedule {
+    private final LocalDate date;
+    private final Map<Integer, ScheduledSlot> bookings = new HashMap<>();
+    private SlotBitmap occupancy = new SlotBitmap();
+
+    public DaySchedule(LocalDate date) {
+        this.date = date;
+    }
+
+    public static DaySchedule of(LocalDate date, Iterable<Appointment> appointments) {
+        DaySchedule schedule = new DaySchedule(date);
+        for (Appointment appointment : appointments) {
+            ScheduledSlot slot = ScheduledSlot.of(appointment);
+            if (slot != null && slot.blocking()) {
+                schedule.put(slot);
+            }
+        }
+        return schedule;
+    }
+
+    synchronized void put(ScheduledSlot slot) {
+        if (bookings.put(slot.appointmentId(), slot) != null) {
+            rebuild();
+        } else {
+            mark(occupancy, slot);
+        }
+    }
+
+    synchronized void remove(Integer appointmentId) {
+        if (bookings.remove(appointmentId) != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns a private copy of the day's occupancy, leaving out {@code excludeAppointmentId} if given.
+     */
+    public synchronized SlotBitmap occupancy(Integer excludeAppointmentId) {
+        if (excludeAppointmentId == null || !bookings.containsKey(excludeAppointmentId)) {
+            return occupancy.copy();
+        }
+        SlotBitmap bits = new SlotBitmap();
+        for (ScheduledSlot slot : bookings.values()) {
+            if (!excludeAppointmentId.equals(slot.appointmentId())) {
+                mark(bits, slot);
+            }
+        }
+        return bits;
+    }
+
+    private void rebuild() {
+        SlotBitmap bits = new SlotBitmap();
+        for (ScheduledSlot slot : bookings.values()) {
+            mark(bits, slot);
+        }
+        occupancy = bits;
+    }
+
+    private void mark(SlotBitmap bits, ScheduledSlot slot) {
+        bits.set(SlotBitmap.floorGranule(date, slot.start()), SlotBitmap.ceilGranule(date, slot.end()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.healthcare.appointment.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.healthcare.appointment.dto.DoctorAgendaDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Enriched day view per doctor and date. An agenda is built once and served from memory until a
+ * mutation in {@code AppointmentService} touches that doctor-day through
+ * {@link #evict(ScheduledSlot, ScheduledSlot)}, or a doctor event changes the doctor's details.
+ * Agendas built while patient or doctor lookups failed are returned but not kept, so placeholders
+ * do not outlive the outage.
+ */
+@Component
+public class DoctorAgendas {
+    private final Cache<DoctorScheduleIndex.DoctorDay, Agenda> agendas;
+
+    public DoctorAgendas(
+            MeterRegistry meterRegistry,
+            @Value("${app.agenda.maximum-size:5000}") long maximumSize,
+            @Value("${app.agenda.expire-after-write-minutes:5}") long expireAfterWriteMinutes) {
+        long ttlNanos = TimeUnit.MINUTES.toNanos(expireAfterWriteMinutes);
+        this.agendas = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<DoctorScheduleIndex.DoctorDay, Agenda>() {
+                    @Override
+                    public long expireAfterCreate(DoctorScheduleIndex.DoctorDay key, Agenda agenda, long currentTime) {
+                        return agenda.complete() ? ttlNanos : 0;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(DoctorScheduleIndex.DoctorDay key, Agenda agenda, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, agenda, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(DoctorScheduleIndex.DoctorDay key, Agenda agenda, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, agendas, "doctorAgendas");
+    }
+
+    public DoctorAgendaDTO agenda(Integer doctorId, LocalDate date, BiFunction<Integer, LocalDate, Agenda> builder) {
+        return agendas.get(new DoctorScheduleIndex.DoctorDay(doctorId, date),
+                key -> builder.apply(key.doctorId(), key.date())).view();
+    }
+
+    public void evict(ScheduledSlot before, ScheduledSlot after) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+            });
+        } else {
+            apply(before, after);
+        }
+    }
+
+    public void evictDoctor(Integer doctorId) {
+        agendas.asMap().keySet().removeIf(key -> key.doctorId().equals(doctorId));
+    }
+
+    private void apply(ScheduledSlot before, ScheduledSlot after) {
+        // invalidate waits for an in-flight build of the same day, so a stale build is never kept
+        if (before != null) {
+            agendas.invalidate(DoctorScheduleIndex.DoctorDay.of(before));
+        }
+        if (after != null) {
+            agendas.invalidate(DoctorScheduleIndex.DoctorDay.of(after));
+        }
+    }
+
+    /**
+     * A built agenda and whether every patient and the doctor could be resolved.
+     */
+    public record Agenda(DoctorAgendaDTO view, boolean complete) {
+    }
+}
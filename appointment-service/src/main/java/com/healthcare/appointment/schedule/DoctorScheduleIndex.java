@@ -0,0 +1,89 @@
+package com.healthcare.appointment.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of doctor bookings per day. A doctor-day is loaded from the database once and
+ * then kept current by the mutations in {@code AppointmentService}, which report changes through
+ * {@link #record(ScheduledSlot, ScheduledSlot)}. Changes are applied after the surrounding
+ * transaction commits so rolled-back writes never reach the index.
+ */
+@Component
+public class DoctorScheduleIndex {
+    private final AppointmentRepository appointmentRepository;
+    private final Cache<DoctorDay, DaySchedule> days;
+
+    public DoctorScheduleIndex(
+            AppointmentRepository appointmentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.schedule-index.maximum-size:10000}") long maximumSize,
+            @Value("${app.schedule-index.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        this.appointmentRepository = appointmentRepository;
+        this.days = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, days, "doctorScheduleIndex");
+    }
+
+    public DaySchedule daySchedule(Integer doctorId, LocalDate date) {
+        return days.get(new DoctorDay(doctorId, date), this::load);
+    }
+
+    public void record(ScheduledSlot before, ScheduledSlot after) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+            });
+        } else {
+            apply(before, after);
+        }
+    }
+
+    private void apply(ScheduledSlot before, ScheduledSlot after) {
+        // computeIfPresent waits for an in-flight load of the same day, so the delta is never lost
+        if (before != null) {
+            days.asMap().computeIfPresent(DoctorDay.of(before), (key, day) -> {
+                day.remove(before.appointmentId());
+                return day;
+            });
+        }
+        if (after != null) {
+            days.asMap().computeIfPresent(DoctorDay.of(after), (key, day) -> {
+                if (after.blocking()) {
+                    day.put(after);
+                } else {
+                    day.remove(after.appointmentId());
+                }
+                return day;
+            });
+        }
+    }
+
+    private DaySchedule load(DoctorDay key) {
+        return DaySchedule.of(key.date(), appointmentRepository.findByDoctorIdAndDateRange(
+                key.doctorId(), key.date().atStartOfDay(), key.date().atTime(LocalTime.MAX)));
+    }
+
+    record DoctorDay(Integer doctorId, LocalDate date) {
+        static DoctorDay of(ScheduledSlot slot) {
+            return new DoctorDay(slot.doctorId(), slot.start().toLocalDate());
+        }
+    }
+}
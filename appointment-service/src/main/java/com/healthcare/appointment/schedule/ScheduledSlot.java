@@ -0,0 +1,38 @@
+package com.healthcare.appointment.schedule;
+
+import com.healthcare.appointment.entity.Appointment;
+import com.healthcare.appointment.enums.AppointmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of the time an appointment occupies in a doctor's calendar.
+ */
+public record ScheduledSlot(
+        Integer appointmentId,
+        Integer doctorId,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean blocking
+) {
+    public static final int DEFAULT_DURATION_MINUTES = 30;
+
+    public static ScheduledSlot of(Appointment appointment) {
+        if (appointment == null || appointment.getDoctorId() == null || appointment.getAppointmentDate() == null) {
+            return null;
+        }
+        LocalDateTime start = appointment.getAppointmentDate();
+        int duration = appointment.getDurationMinutes() != null ? appointment.getDurationMinutes() : DEFAULT_DURATION_MINUTES;
+        return new ScheduledSlot(
+                appointment.getId(),
+                appointment.getDoctorId(),
+                start,
+                start.plusMinutes(duration),
+                blocks(appointment.getStatus()));
+    }
+
+    public static boolean blocks(AppointmentStatus status) {
+        return status != AppointmentStatus.CANCELLED && status != AppointmentStatus.REJECTED
+                && status != AppointmentStatus.EXPIRED;
+    }
+}
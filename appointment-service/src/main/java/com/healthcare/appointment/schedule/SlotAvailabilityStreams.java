@@ -0,0 +1,219 @@
+package com.healthcare.appointment.schedule;
+
+import com.healthcare.appointment.dto.SlotDeltaDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-sent event subscriptions to the free slots of one doctor on one day. Subscribers first get
+ * a {@code slots} snapshot and then {@code slot-taken} / {@code slot-freed} deltas, which
+ * {@code AppointmentService} reports through {@link #publish(ScheduledSlot, ScheduledSlot)} and
+ * which are fanned out after commit.
+ * <p>
+ * Writers never block on a client: each subscription has a bounded queue drained on its own virtual
+ * thread. When a slow client lets the queue fill up, the queued deltas are dropped and the client
+ * is sent a single {@code resync} event telling it to fetch the slots again.
+ */
+@Component
+public class SlotAvailabilityStreams {
+    private static final Outgoing RESYNC = new Outgoing("resync", Map.of());
+    private static final Outgoing HEARTBEAT = new Outgoing(null, null);
+
+    private final ConcurrentMap<DoctorScheduleIndex.DoctorDay, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedCounter;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+
+    public SlotAvailabilityStreams(
+            MeterRegistry meterRegistry,
+            @Value("${app.slot-stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.slot-stream.queue-capacity:64}") int queueCapacity,
+            @Value("${app.slot-stream.max-subscribers:10000}") int maxSubscribers) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.droppedCounter = meterRegistry.counter("appointment.slot.stream.dropped");
+        Gauge.builder("appointment.slot.stream.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Registers a subscriber and queues the snapshot as its first event. The subscription exists
+     * before the snapshot is taken, so no change committed in between is missed.
+     */
+    public SseEmitter subscribe(Integer doctorId, LocalDate date, Supplier<Object> snapshot) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new IllegalStateException("Too many slot subscriptions, poll available slots instead");
+        }
+        DoctorScheduleIndex.DoctorDay day = new DoctorScheduleIndex.DoctorDay(doctorId, date);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(day, emitter);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        subscriptions.compute(day, (key, subscribers) -> {
+            Set<Subscription> joined = subscribers != null ? subscribers : ConcurrentHashMap.<Subscription>newKeySet();
+            joined.add(subscription);
+            return joined;
+        });
+        subscriberCount.incrementAndGet();
+        try {
+            subscription.offer(new Outgoing("slots", snapshot.get()));
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    public void publish(ScheduledSlot before, ScheduledSlot after) {
+        boolean unchanged = before != null && after != null && before.blocking() && after.blocking()
+                && Objects.equals(before.doctorId(), after.doctorId())
+                && before.start().equals(after.start()) && before.end().equals(after.end());
+        if (unchanged || subscriptions.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanOut(before, after);
+                }
+            });
+        } else {
+            fanOut(before, after);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.slot-stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        // a failed heartbeat is how a silently disconnected client gets removed
+        subscriptions.values().forEach(day -> day.forEach(subscription -> subscription.offer(HEARTBEAT)));
+    }
+
+    private void fanOut(ScheduledSlot before, ScheduledSlot after) {
+        if (before != null && before.blocking()) {
+            send(before, "slot-freed");
+        }
+        if (after != null && after.blocking()) {
+            send(after, "slot-taken");
+        }
+    }
+
+    private void send(ScheduledSlot slot, String name) {
+        Set<Subscription> subscribers = subscriptions.get(DoctorScheduleIndex.DoctorDay.of(slot));
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Outgoing event = new Outgoing(name, new SlotDeltaDTO(slot.doctorId(), slot.appointmentId(), slot.start(), slot.end()));
+        subscribers.forEach(subscription -> subscription.offer(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(day -> day.forEach(subscription -> subscription.emitter.complete()));
+        executor.shutdownNow();
+    }
+
+    private final class Subscription {
+        private final DoctorScheduleIndex.DoctorDay day;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private Subscription(DoctorScheduleIndex.DoctorDay day, SseEmitter emitter) {
+            this.day = day;
+            this.emitter = emitter;
+        }
+
+        private void offer(Outgoing event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                droppedCounter.increment(queue.size());
+                queue.clear();
+                overflowed = true;
+            }
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    if (overflowed) {
+                        overflowed = false;
+                        emitter.send(RESYNC.toEvent());
+                    }
+                    Outgoing event = queue.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    emitter.send(event.toEvent());
+                }
+            } catch (Exception e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // an offer may have arrived after the last poll but before draining was released
+            if (!closed.get() && (overflowed || !queue.isEmpty()) && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            queue.clear();
+            subscriptions.computeIfPresent(day, (key, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    /**
+     * A queued event. SSE event builders are consumed when sent, so one is built per send; a
+     * {@code null} name stands for a heartbeat comment.
+     */
+    private record Outgoing(String name, Object data) {
+        private SseEmitter.SseEventBuilder toEvent() {
+            return name == null
+                    ? SseEmitter.event().comment("keepalive")
+                    : SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.healthcare.appointment.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Occupancy of one calendar day as a bitmap with one bit per {@value #GRANULE_MINUTES}-minute granule.
+ * A set bit means the granule is taken. All range operations work a 64-bit word at a time.
+ */
+public final class SlotBitmap {
+    public static final int GRANULE_MINUTES = 5;
+    public static final int GRANULES_PER_DAY = 24 * 60 / GRANULE_MINUTES;
+    private static final int GRANULE_SECONDS = GRANULE_MINUTES * 60;
+    private static final int WORDS = (GRANULES_PER_DAY + 63) >>> 6;
+
+    private final long[] words;
+
+    public SlotBitmap() {
+        this.words = new long[WORDS];
+    }
+
+    private SlotBitmap(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Granule containing {@code time}, clamped to {@code day}.
+     */
+    public static int floorGranule(LocalDate day, LocalDateTime time) {
+        if (time.toLocalDate().isBefore(day)) {
+            return 0;
+        }
+        if (time.toLocalDate().isAfter(day)) {
+            return GRANULES_PER_DAY;
+        }
+        return time.toLocalTime().toSecondOfDay() / GRANULE_SECONDS;
+    }
+
+    /**
+     * First granule boundary at or after {@code time}, clamped to {@code day}.
+     */
+    public static int ceilGranule(LocalDate day, LocalDateTime time) {
+        if (time.toLocalDate().isBefore(day)) {
+            return 0;
+        }
+        if (time.toLocalDate().isAfter(day)) {
+            return GRANULES_PER_DAY;
+        }
+        return (time.toLocalTime().toSecondOfDay() + GRANULE_SECONDS - 1) / GRANULE_SECONDS;
+    }
+
+    public static LocalDateTime timeOf(LocalDate day, int granule) {
+        return day.atStartOfDay().plusMinutes((long) granule * GRANULE_MINUTES);
+    }
+
+    public static int granulesFor(int minutes) {
+        return (minutes + GRANULE_MINUTES - 1) / GRANULE_MINUTES;
+    }
+
+    /**
+     * Marks granules {@code [from, to)} as taken.
+     */
+    public void set(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(GRANULES_PER_DAY, to);
+        if (from >= to) {
+            return;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = -1L;
+        }
+        words[last] |= lastMask;
+    }
+
+    /**
+     * Returns whether every granule in {@code [from, to)} is free. Ranges reaching outside the day are never free.
+     */
+    public boolean isClear(int from, int to) {
+        if (from < 0 || to > GRANULES_PER_DAY) {
+            return false;
+        }
+        if (from >= to) {
+            return true;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            return (words[first] & firstMask & lastMask) == 0;
+        }
+        if ((words[first] & firstMask) != 0 || (words[last] & lastMask) != 0) {
+            return false;
+        }
+        for (int i = first + 1; i < last; i++) {
+            if (words[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first granule {@code s >= from} such that {@code [s, s + length)} is free and ends
+     * no later than {@code limit}, or {@code -1} if there is none.
+     */
+    public int nextClearRun(int from, int length, int limit) {
+        limit = Math.min(limit, GRANULES_PER_DAY);
+        int start = nextClearBit(Math.max(0, from));
+        while (start + length <= limit) {
+            int end = nextSetBit(start);
+            if (end - start >= length) {
+                return start;
+            }
+            start = nextClearBit(end);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new bitmap with the granules taken in either bitmap.
+     */
+    public SlotBitmap or(SlotBitmap other) {
+        long[] merged = words.clone();
+        for (int i = 0; i < WORDS; i++) {
+            merged[i] |= other.words[i];
+        }
+        return new SlotBitmap(merged);
+    }
+
+    /**
+     * Returns a new bitmap with the granules taken in both bitmaps, i.e. free where at least one is free.
+     */
+    public SlotBitmap and(SlotBitmap other) {
+        long[] merged = words.clone();
+        for (int i = 0; i < WORDS; i++) {
+            merged[i] &= other.words[i];
+        }
+        return new SlotBitmap(merged);
+    }
+
+    /**
+     * Returns a new bitmap with every granule of the day flipped.
+     */
+    public SlotBitmap complement() {
+        long[] flipped = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            flipped[i] = ~words[i];
+        }
+        flipped[WORDS - 1] &= -1L >>> -GRANULES_PER_DAY;
+        return new SlotBitmap(flipped);
+    }
+
+    public SlotBitmap copy() {
+        return new SlotBitmap(words.clone());
+    }
+
+    private int nextSetBit(int from) {
+        if (from >= GRANULES_PER_DAY) {
+            return GRANULES_PER_DAY;
+        }
+        int i = from >>> 6;
+        long word = words[i] & (-1L << from);
+        while (word == 0) {
+            if (++i == WORDS) {
+                return GRANULES_PER_DAY;
+            }
+            word = words[i];
+        }
+        return Math.min(GRANULES_PER_DAY, (i << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    private int nextClearBit(int from) {
+        if (from >= GRANULES_PER_DAY) {
+            return GRANULES_PER_DAY;
+        }
+        int i = from >>> 6;
+        long word = ~words[i] & (-1L << from);
+        while (word == 0) {
+            if (++i == WORDS) {
+                return GRANULES_PER_DAY;
+            }
+            word = ~words[i];
+        }
+        return Math.min(GRANULES_PER_DAY, (i << 6) + Long.numberOfTrailingZeros(word));
+    }
+}
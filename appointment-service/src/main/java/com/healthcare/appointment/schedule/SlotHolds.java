@@ -0,0 +1,221 @@
+package com.healthcare.appointment.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.healthcare.appointment.exception.AppointmentConflictException;
+import com.healthcare.appointment.service.AppointmentCaches;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Short-lived reservations of a doctor's time, taken while a patient completes the booking form.
+ * A held slot is unavailable to everyone but the holder of its token until the hold is booked,
+ * released or expires, so competing patients are turned away here instead of racing for the same
+ * row in the database.
+ * <p>
+ * Holds live in memory on the replica that granted them; the booking itself is still checked against
+ * the database, which stays the source of truth across replicas. Expired holds are removed by the
+ * cache's scheduler, which frees the slot for listings and slot streams.
+ */
+@Component
+public class SlotHolds {
+    private final Cache<UUID, SlotHold> holds;
+    private final ConcurrentMap<DoctorScheduleIndex.DoctorDay, Map<UUID, SlotHold>> holdsByDay = new ConcurrentHashMap<>();
+    private final SlotAvailabilityStreams slotAvailabilityStreams;
+    private final AppointmentCaches appointmentCaches;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final long maximumHolds;
+
+    public SlotHolds(
+            SlotAvailabilityStreams slotAvailabilityStreams,
+            AppointmentCaches appointmentCaches,
+            MeterRegistry meterRegistry,
+            @Value("${app.slot-holds.ttl-minutes:5}") long ttlMinutes,
+            @Value("${app.slot-holds.max-ttl-minutes:15}") long maxTtlMinutes,
+            @Value("${app.slot-holds.maximum-holds:10000}") long maximumHolds) {
+        this.slotAvailabilityStreams = slotAvailabilityStreams;
+        this.appointmentCaches = appointmentCaches;
+        this.defaultTtl = Duration.ofMinutes(ttlMinutes);
+        this.maxTtl = Duration.ofMinutes(maxTtlMinutes);
+        this.maximumHolds = maximumHolds;
+        this.holds = Caffeine.newBuilder()
+                .expireAfter(new Expiry<UUID, SlotHold>() {
+                    @Override
+                    public long expireAfterCreate(UUID token, SlotHold hold, long currentTime) {
+                        return Math.max(0, Duration.between(LocalDateTime.now(), hold.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID token, SlotHold hold, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, hold, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID token, SlotHold hold, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((UUID token, SlotHold hold, RemovalCause cause) -> {
+                    if (hold != null && cause == RemovalCause.EXPIRED) {
+                        unindex(hold);
+                        freed(hold);
+                    }
+                })
+                .build();
+        Gauge.builder("appointment.slot.holds", holds, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Holds {@code slot} for {@code ttl} (the configured default if {@code null}, capped at the
+     * configured maximum) unless it overlaps a granule taken in {@code blocked} or another live hold.
+     */
+    public SlotHold hold(ScheduledSlot slot, SlotBitmap blocked, Duration ttl) {
+        if (holds.estimatedSize() >= maximumHolds) {
+            throw new IllegalStateException("Too many slot holds, try again shortly");
+        }
+        LocalDate date = slot.start().toLocalDate();
+        if (!blocked.isClear(SlotBitmap.floorGranule(date, slot.start()), SlotBitmap.ceilGranule(date, slot.end()))) {
+            throw new AppointmentConflictException("Doctor " + slot.doctorId() + " is not available between "
+                    + slot.start() + " and " + slot.end());
+        }
+        Duration holdFor = ttl == null ? defaultTtl : ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl;
+        SlotHold hold = new SlotHold(UUID.randomUUID(), slot, LocalDateTime.now().plus(holdFor));
+        holdsByDay.compute(DoctorScheduleIndex.DoctorDay.of(slot), (day, dayHolds) -> {
+            Map<UUID, SlotHold> joined = dayHolds != null ? dayHolds : new ConcurrentHashMap<>();
+            LocalDateTime now = LocalDateTime.now();
+            for (SlotHold other : joined.values()) {
+                if (other.isLive(now) && other.overlaps(slot)) {
+                    throw new AppointmentConflictException("Slot between " + slot.start() + " and " + slot.end()
+                            + " is being booked by someone else");
+                }
+            }
+            joined.put(hold.token(), hold);
+            return joined;
+        });
+        holds.put(hold.token(), hold);
+        taken(hold);
+        return hold;
+    }
+
+    /**
+     * Granules of the doctor's day covered by live holds.
+     */
+    public SlotBitmap occupancy(Integer doctorId, LocalDate date) {
+        SlotBitmap bits = new SlotBitmap();
+        Map<UUID, SlotHold> dayHolds = holdsByDay.get(new DoctorScheduleIndex.DoctorDay(doctorId, date));
+        if (dayHolds == null) {
+            return bits;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (SlotHold hold : dayHolds.values()) {
+            if (hold.isLive(now)) {
+                bits.set(SlotBitmap.floorGranule(date, hold.slot().start()), SlotBitmap.ceilGranule(date, hold.slot().end()));
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Whether a live hold other than {@code exceptToken} overlaps {@code slot}.
+     */
+    public boolean isHeld(ScheduledSlot slot, UUID exceptToken) {
+        Map<UUID, SlotHold> dayHolds = holdsByDay.get(DoctorScheduleIndex.DoctorDay.of(slot));
+        if (dayHolds == null) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return dayHolds.values().stream()
+                .anyMatch(hold -> !hold.token().equals(exceptToken) && hold.isLive(now) && hold.overlaps(slot));
+    }
+
+    /**
+     * Whether {@code token} is a live hold on the doctor of {@code slot} that spans all of it.
+     */
+    public boolean covers(UUID token, ScheduledSlot slot) {
+        SlotHold hold = holds.getIfPresent(token);
+        return hold != null && hold.isLive(LocalDateTime.now())
+                && Objects.equals(hold.slot().doctorId(), slot.doctorId())
+                && !slot.start().isBefore(hold.slot().start())
+                && !slot.end().isAfter(hold.slot().end());
+    }
+
+    /**
+     * Drops a hold once the appointment booked with it is committed. The appointment takes over the
+     * slot, so no {@code slot-freed} event is sent.
+     */
+    public void consume(UUID token) {
+        Runnable remove = () -> {
+            SlotHold hold = holds.asMap().remove(token);
+            if (hold != null) {
+                unindex(hold);
+                appointmentCaches.evictTimeSlots(hold.slot());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove.run();
+                }
+            });
+        } else {
+            remove.run();
+        }
+    }
+
+    public boolean release(UUID token) {
+        SlotHold hold = holds.asMap().remove(token);
+        if (hold == null) {
+            return false;
+        }
+        unindex(hold);
+        freed(hold);
+        return true;
+    }
+
+    private void unindex(SlotHold hold) {
+        holdsByDay.computeIfPresent(DoctorScheduleIndex.DoctorDay.of(hold.slot()), (day, dayHolds) -> {
+            dayHolds.remove(hold.token());
+            return dayHolds.isEmpty() ? null : dayHolds;
+        });
+    }
+
+    private void taken(SlotHold hold) {
+        appointmentCaches.evictTimeSlots(hold.slot());
+        slotAvailabilityStreams.publish(null, hold.slot());
+    }
+
+    private void freed(SlotHold hold) {
+        appointmentCaches.evictTimeSlots(hold.slot());
+        slotAvailabilityStreams.publish(hold.slot(), null);
+    }
+
+    public record SlotHold(UUID token, ScheduledSlot slot, LocalDateTime expiresAt) {
+        private boolean isLive(LocalDateTime now) {
+            return expiresAt.isAfter(now);
+        }
+
+        private boolean overlaps(ScheduledSlot other) {
+            return Objects.equals(slot.doctorId(), other.doctorId())
+                    && slot.start().isBefore(other.end()) && other.start().isBefore(slot.end());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.healthcare.appointment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.healthcare.appointment.schedule.ScheduledSlot;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Evicts exactly the cache entries a committed appointment change affects: the appointment
+ * itself, the appointment lists of the doctors before and after the change, and the time slots of
+ * the doctor-days it left and entered. Evictions are deferred until the transaction commits.
+ */
+@Component
+public class AppointmentCaches {
+    static final String APPOINTMENTS = "appointments";
+    static final String DOCTOR_APPOINTMENTS = "doctorAppointments";
+    static final String TIME_SLOTS = "timeSlots";
+
+    private final org.springframework.cache.Cache appointments;
+    private final org.springframework.cache.Cache doctorAppointments;
+    private final org.springframework.cache.Cache timeSlots;
+    private final Cache<Object, Object> nativeTimeSlots;
+
+    public AppointmentCaches(CacheManager cacheManager) {
+        this.appointments = new TransactionAwareCacheDecorator(cacheManager.getCache(APPOINTMENTS));
+        this.doctorAppointments = new TransactionAwareCacheDecorator(cacheManager.getCache(DOCTOR_APPOINTMENTS));
+        this.timeSlots = new TransactionAwareCacheDecorator(cacheManager.getCache(TIME_SLOTS));
+        this.nativeTimeSlots = ((CaffeineCache) cacheManager.getCache(TIME_SLOTS)).getNativeCache();
+    }
+
+    /**
+     * Cache key of the slots of one doctor-day; also referenced from the {@code @Cacheable} on
+     * {@code AppointmentService#getAvailableTimeSlots}.
+     */
+    public static String slotKey(Integer doctorId, LocalDate date) {
+        return doctorId + ":" + date;
+    }
+
+    void evict(Integer appointmentId, ScheduledSlot before, ScheduledSlot after) {
+        if (appointmentId != null) {
+            appointments.evict(appointmentId);
+        }
+        evictSlot(before);
+        evictSlot(after);
+    }
+
+    /**
+     * Drops every cached slot list of a doctor, e.g. after the doctor's working schedule changed.
+     */
+    public void evictDoctorSlots(Integer doctorId) {
+        String prefix = doctorId + ":";
+        nativeTimeSlots.asMap().keySet().removeIf(key -> key instanceof String slotKey && slotKey.startsWith(prefix));
+    }
+
+    public void evictAllSlots() {
+        nativeTimeSlots.invalidateAll();
+    }
+
+    /**
+     * Drops the cached slot lists of the days {@code slot} touches, e.g. when a slot hold takes or
+     * frees that time.
+     */
+    public void evictTimeSlots(ScheduledSlot slot) {
+        timeSlots.evict(slotKey(slot.doctorId(), slot.start().toLocalDate()));
+        if (!slot.end().toLocalDate().equals(slot.start().toLocalDate())) {
+            timeSlots.evict(slotKey(slot.doctorId(), slot.end().toLocalDate()));
+        }
+    }
+
+    private void evictSlot(ScheduledSlot slot) {
+        if (slot == null) {
+            return;
+        }
+        doctorAppointments.evict(slot.doctorId());
+        evictTimeSlots(slot);
+    }
+}
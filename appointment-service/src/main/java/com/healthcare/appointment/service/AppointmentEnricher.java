@@ -0,0 +1,92 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.directory.DoctorDirectory;
+import com.healthcare.appointment.directory.DoctorProfile;
+import com.healthcare.appointment.feign.PatientServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fetches patient and doctor records for appointment details concurrently on virtual threads.
+ * Each leg is bounded by a deadline and resolves to {@code null} on failure or timeout so callers
+ * can fall back to their "not found" placeholders. Doctors already in the local directory are
+ * returned without a remote call.
+ */
+@Component
+public class AppointmentEnricher {
+    private static final String TIMER_NAME = "appointment.enrichment";
+
+    private final PatientServiceClient patientServiceClient;
+    private final DoctorDirectory doctorDirectory;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AppointmentEnricher(
+            PatientServiceClient patientServiceClient,
+            DoctorDirectory doctorDirectory,
+            MeterRegistry meterRegistry,
+            @Value("${app.enrichment.timeout-ms:2000}") long timeoutMillis) {
+        this.patientServiceClient = patientServiceClient;
+        this.doctorDirectory = doctorDirectory;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public CompletableFuture<Map<String, Object>> fetchPatient(Integer patientId) {
+        if (patientId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetch("patient", () -> patientServiceClient.getPatientById(patientId));
+    }
+
+    public CompletableFuture<DoctorProfile> fetchDoctor(Integer doctorId) {
+        if (doctorId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (doctorDirectory.isReplicated(doctorId)) {
+            return CompletableFuture.completedFuture(doctorDirectory.find(doctorId).orElse(null));
+        }
+        return fetch("doctor", () -> doctorDirectory.find(doctorId).orElse(null));
+    }
+
+    private <T> CompletableFuture<T> fetch(String leg, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    String outcome = "success";
+                    try {
+                        return call.get();
+                    } catch (RuntimeException e) {
+                        outcome = "error";
+                        throw e;
+                    } finally {
+                        sample.stop(meterRegistry.timer(TIMER_NAME, "leg", leg, "outcome", outcome));
+                    }
+                }, executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        meterRegistry.counter(TIMER_NAME + ".timeouts", "leg", leg).increment();
+                    }
+                    return null;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,43 +1,122 @@
 package com.healthcare.appointment.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.appointment.directory.DoctorDirectory;
+import com.healthcare.appointment.directory.DoctorProfile;
+import com.healthcare.appointment.directory.DoctorWorkingSchedules;
+import com.healthcare.appointment.directory.WorkingDay;
+import com.healthcare.appointment.directory.WorkingSchedule;
 import com.healthcare.appointment.dto.AppointmentDTO;
 import com.healthcare.appointment.dto.AppointmentDetailDTO;
+import com.healthcare.appointment.dto.AppointmentFilter;
+import com.healthcare.appointment.dto.AppointmentSeriesRequest;
+import com.healthcare.appointment.dto.AppointmentSeriesResultDTO;
+import com.healthcare.appointment.dto.AppointmentStatisticsDTO;
+import com.healthcare.appointment.dto.BulkStatusChangeResultDTO;
+import com.healthcare.appointment.dto.DoctorAgendaDTO;
+import com.healthcare.appointment.dto.DoctorSlotDTO;
 import com.healthcare.appointment.dto.RescheduleRequest;
+import com.healthcare.appointment.dto.SeriesOccurrenceDTO;
+import com.healthcare.appointment.dto.SlotHoldDTO;
+import com.healthcare.appointment.dto.SlotHoldRequest;
 import com.healthcare.appointment.dto.TimeSlotDTO;
 import com.healthcare.appointment.entity.Appointment;
 import com.healthcare.appointment.enums.AppointmentStatus;
+import com.healthcare.appointment.enums.BulkStatusChangeOutcome;
+import com.healthcare.appointment.enums.SeriesOccurrenceStatus;
 import com.healthcare.appointment.event.AppointmentEventPublisher;
+import com.healthcare.appointment.exception.AppointmentConflictException;
 import com.healthcare.appointment.feign.DoctorServiceClient;
 import com.healthcare.appointment.feign.PatientServiceClient;
+import com.healthcare.appointment.reminder.AppointmentReminders;
+import com.healthcare.appointment.repository.AppointmentGroupCount;
 import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.appointment.repository.AppointmentSpecifications;
+import com.healthcare.appointment.schedule.DaySchedule;
+import com.healthcare.appointment.schedule.DoctorAgendas;
+import com.healthcare.appointment.schedule.DoctorScheduleIndex;
+import com.healthcare.appointment.schedule.ScheduledSlot;
+import com.healthcare.appointment.schedule.SlotAvailabilityStreams;
+import com.healthcare.appointment.schedule.SlotBitmap;
+import com.healthcare.appointment.schedule.SlotHolds;
+import com.healthcare.common.pagination.CursorPageDTO;
+import com.healthcare.common.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AppointmentService {
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int MAX_SEARCH_DAYS = 30;
+    private static final int MAX_STATISTICS_DAYS = 366;
+    private static final int DOCTOR_SCHEDULE_LOCK = 4001;
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 500;
+    private static final Set<AppointmentStatus> CANCELLABLE = EnumSet.of(
+            AppointmentStatus.PENDING, AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED);
+    private static final int EXPORT_BUFFER_BYTES = 64 * 1024;
+    private static final Map<String, Function<String, Object>> KEYSET_SORTABLE = Map.of(
+            "id", Integer::valueOf,
+            "appointmentDate", LocalDateTime::parse);
+
     private final AppointmentRepository appointmentRepository;
     private final PatientServiceClient patientServiceClient;
     private final DoctorServiceClient doctorServiceClient;
+    private final DoctorDirectory doctorDirectory;
+    private final DoctorWorkingSchedules doctorWorkingSchedules;
     private final AppointmentEventPublisher eventPublisher;
+    private final AppointmentEnricher appointmentEnricher;
+    private final DoctorScheduleIndex doctorScheduleIndex;
+    private final DoctorAgendas doctorAgendas;
+    private final AppointmentReminders appointmentReminders;
+    private final SlotAvailabilityStreams slotAvailabilityStreams;
+    private final AppointmentCaches appointmentCaches;
+    private final SlotHolds slotHolds;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
     
     @Transactional(readOnly = true)
     public List<AppointmentDTO> getAllAppointments() {
@@ -55,6 +134,105 @@ public class AppointmentService {
         return appointmentRepository.findAll(pageable).map(this::toDTO);
     }
     
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AppointmentDTO> getAppointmentsByCursor(String cursor, int size, String sortBy, String direction) {
+        Sort sort = KeysetCursor.sort(sortBy, direction, KEYSET_SORTABLE);
+        Window<Appointment> window = appointmentRepository.findAllBy(
+                KeysetCursor.decode(cursor, sort, KEYSET_SORTABLE),
+                sort,
+                Limit.of(Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE))));
+        return KeysetCursor.toPage(window, this::toDTO, sort);
+    }
+    
+    /**
+     * Returns appointments matching every given filter in one query, ordered by appointment date and
+     * id and paged by keyset. Rows are selected directly into DTOs, so nothing is dirty-checked.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AppointmentDTO> filterAppointments(AppointmentFilter filter, String cursor, int size, String direction) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getTo().isBefore(filter.getFrom())) {
+            throw new IllegalArgumentException("Filter 'to' date cannot be before 'from' date");
+        }
+        Sort sort = KeysetCursor.sort("appointmentDate", direction, KEYSET_SORTABLE);
+        Window<AppointmentDTO> window = appointmentRepository.scrollFiltered(
+                AppointmentSpecifications.matching(filter),
+                (KeysetScrollPosition) KeysetCursor.decode(cursor, sort, KEYSET_SORTABLE),
+                sort.iterator().next().getDirection(),
+                Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+        return KeysetCursor.toPage(window, Function.identity(), sort);
+    }
+    
+    /**
+     * Writes appointments in {@code [from, to]} as newline-delimited JSON; the caller validates the range
+     * before the response is committed. Rows come in date order straight off the date index through a
+     * server-side cursor and are detached once written, so the first line goes out without sorting the
+     * range and memory use does not grow with the result size.
+     */
+    @Transactional(readOnly = true)
+    public void exportAppointments(LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, EXPORT_BUFFER_BYTES);
+        try (Stream<Appointment> appointments = appointmentRepository.streamByDateRange(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            Iterator<Appointment> iterator = appointments.iterator();
+            while (iterator.hasNext()) {
+                Appointment appointment = iterator.next();
+                buffered.write(objectMapper.writeValueAsBytes(toDTO(appointment)));
+                buffered.write('\n');
+                entityManager.detach(appointment);
+            }
+        }
+        buffered.flush();
+    }
+    
+    /**
+     * Counts appointments in {@code [from, to]} by status, doctor, department, day and ISO week.
+     * Each grouping is a single {@code GROUP BY} in the database; departments are resolved from the
+     * doctor replica and weeks are rolled up from the daily counts. Results are cached briefly.
+     */
+    @Cacheable("appointmentStatistics")
+    @Transactional(readOnly = true)
+    public AppointmentStatisticsDTO getStatistics(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || from.plusDays(MAX_STATISTICS_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("Statistics range must be between 1 and " + (MAX_STATISTICS_DAYS + 1) + " days");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        
+        Map<AppointmentStatus, Long> byStatus = new EnumMap<>(AppointmentStatus.class);
+        for (AppointmentGroupCount row : appointmentRepository.countByStatus(start, end)) {
+            if (row.getGroupKey() instanceof AppointmentStatus status) {
+                byStatus.put(status, row.getTotal());
+            }
+        }
+        
+        Map<Integer, Long> byDoctor = new TreeMap<>();
+        for (AppointmentGroupCount row : appointmentRepository.countByDoctor(start, end)) {
+            if (row.getGroupKey() instanceof Integer doctorId) {
+                byDoctor.put(doctorId, row.getTotal());
+            }
+        }
+        Map<Integer, DoctorProfile> doctors = doctorDirectory.findAll(byDoctor.keySet());
+        Map<String, Long> byDepartment = new TreeMap<>();
+        byDoctor.forEach((doctorId, count) -> {
+            DoctorProfile doctor = doctors.get(doctorId);
+            String department = doctor != null && doctor.department() != null ? doctor.department() : "Unknown";
+            byDepartment.merge(department, count, Long::sum);
+        });
+        
+        Map<LocalDate, Long> byDay = new TreeMap<>();
+        Map<LocalDate, Long> byWeek = new TreeMap<>();
+        for (AppointmentGroupCount row : appointmentRepository.countByDay(start, end)) {
+            if (row.getGroupKey() instanceof LocalDate day) {
+                byDay.put(day, row.getTotal());
+                byWeek.merge(day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), row.getTotal(), Long::sum);
+            }
+        }
+        
+        long total = byDay.values().stream().mapToLong(Long::longValue).sum();
+        return new AppointmentStatisticsDTO(from, to, total, byStatus, byDoctor, byDepartment, byDay, byWeek);
+    }
+    
+    @Cacheable(value = AppointmentCaches.APPOINTMENTS, key = "#id")
     @Transactional(readOnly = true)
     public AppointmentDTO getAppointmentById(Integer id) {
         Appointment appointment = appointmentRepository.findById(id)
@@ -63,21 +241,173 @@ public class AppointmentService {
     }
     
     public AppointmentDTO createAppointment(AppointmentDTO appointmentDTO) {
-        Appointment appointment = toEntity(appointmentDTO);
-        if (appointment.getStatus() == null) {
-            appointment.setStatus(AppointmentStatus.PENDING);
-        }
-        if (appointment.getDurationMinutes() == null) {
-            appointment.setDurationMinutes(30);
+        return createAppointment(appointmentDTO, null);
+    }
+    
+    /**
+     * Creates an appointment inside the slot held by {@code holdToken}, if given. The hold is dropped
+     * once the appointment is committed; an expired hold or one for another slot is a conflict.
+     */
+    public AppointmentDTO createAppointment(AppointmentDTO appointmentDTO, UUID holdToken) {
+        Appointment appointment = toNewEntity(appointmentDTO);
+        if (holdToken != null && !slotHolds.covers(holdToken, ScheduledSlot.of(appointment))) {
+            throw new AppointmentConflictException("Slot hold " + holdToken + " has expired or does not cover this appointment");
         }
+        ensureSlotFree(appointment, holdToken);
         appointment = appointmentRepository.save(appointment);
+        recordChange(null, appointment);
         eventPublisher.publishCreated(appointment);
+        if (holdToken != null) {
+            slotHolds.consume(holdToken);
+        }
         return toDTO(appointment);
     }
     
+    /**
+     * Reserves a free slot of the doctor for a few minutes while the patient completes the booking.
+     * The slot must lie within the doctor's working hours and be free of appointments and other holds.
+     */
+    public SlotHoldDTO holdSlot(Integer doctorId, SlotHoldRequest request) {
+        LocalDateTime start = request.getStartTime();
+        int duration = request.getDurationMinutes() != null ? request.getDurationMinutes() : ScheduledSlot.DEFAULT_DURATION_MINUTES;
+        LocalDateTime end = start.plusMinutes(duration);
+        LocalDate date = start.toLocalDate();
+        if (!start.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Only future slots can be held");
+        }
+        if (end.isAfter(date.plusDays(1).atStartOfDay())) {
+            throw new IllegalArgumentException("A held slot must end on the day it starts");
+        }
+        DoctorProfile doctor = doctorDirectory.find(doctorId)
+                .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + doctorId));
+        
+        WorkingDay workingDay = doctorWorkingSchedules.of(doctor).on(date);
+        SlotBitmap blocked = doctorScheduleIndex.daySchedule(doctorId, date).occupancy(null).or(workingDay.offHours());
+        SlotHolds.SlotHold hold = slotHolds.hold(new ScheduledSlot(null, doctorId, start, end, true), blocked,
+                request.getHoldMinutes() != null ? Duration.ofMinutes(request.getHoldMinutes()) : null);
+        return new SlotHoldDTO(hold.token(), doctorId, start, end, hold.expiresAt());
+    }
+    
+    public void releaseSlotHold(UUID token) {
+        if (!slotHolds.release(token)) {
+            throw new RuntimeException("Slot hold not found with id: " + token);
+        }
+    }
+    
+    /**
+     * Creates all appointments or none. Every slot is checked before the first row is written, so no
+     * query forces an intermediate flush and the inserts and their outbox rows reach the database as
+     * JDBC batches on commit.
+     */
+    public List<AppointmentDTO> createAppointments(List<AppointmentDTO> appointmentDTOs) {
+        if (appointmentDTOs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " appointments can be created at once");
+        }
+        List<Appointment> appointments = appointmentDTOs.stream()
+                .map(this::toNewEntity)
+                .collect(Collectors.toList());
+        ensureSlotsFree(appointments);
+        
+        List<Appointment> saved = appointmentRepository.saveAll(appointments);
+        saved.forEach(appointment -> recordChange(null, appointment));
+        eventPublisher.publishCreated(saved);
+        return saved.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Expands a recurring appointment and books its occurrences. All occurrences are checked against
+     * the doctor's calendar with one range query under the doctor's schedule lock, and against each
+     * other. If any clashes, nothing is created and the clashes are reported, unless the request asks
+     * to skip them; the client can also resubmit with the clashing occurrences skipped or adjusted.
+     * The free occurrences are inserted and published in batches.
+     */
+    public AppointmentSeriesResultDTO createAppointmentSeries(AppointmentSeriesRequest request) {
+        Map<Integer, LocalDateTime> adjustments = request.getAdjustments() != null ? request.getAdjustments() : Map.of();
+        Set<Integer> skip = request.getSkip() != null ? request.getSkip() : Set.of();
+        for (Integer occurrence : adjustments.keySet()) {
+            if (occurrence == null || occurrence < 1 || occurrence > request.getOccurrences()
+                    || adjustments.get(occurrence) == null) {
+                throw new IllegalArgumentException("Invalid adjustment for occurrence " + occurrence);
+            }
+        }
+        int duration = request.getDurationMinutes() != null ? request.getDurationMinutes() : ScheduledSlot.DEFAULT_DURATION_MINUTES;
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<SeriesOccurrenceDTO> occurrences = new ArrayList<>(request.getOccurrences());
+        List<SeriesOccurrenceDTO> candidates = new ArrayList<>(request.getOccurrences());
+        for (int number = 1; number <= request.getOccurrences(); number++) {
+            LocalDateTime start = adjustments.containsKey(number)
+                    ? adjustments.get(number)
+                    : request.getFrequency().occurrence(request.getFirstAppointmentDate(), (long) (number - 1) * request.getInterval());
+            SeriesOccurrenceDTO occurrence = new SeriesOccurrenceDTO(number, start, SeriesOccurrenceStatus.SKIPPED, null, null);
+            occurrences.add(occurrence);
+            if (skip.contains(number)) {
+                continue;
+            }
+            if (!start.isAfter(now)) {
+                throw new IllegalArgumentException("Occurrence " + number + " at " + start + " is not in the future");
+            }
+            occurrence.setStatus(SeriesOccurrenceStatus.AVAILABLE);
+            candidates.add(occurrence);
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("Every occurrence of the series is skipped");
+        }
+        
+        candidates.sort(Comparator.comparing(SeriesOccurrenceDTO::getAppointmentDate));
+        appointmentRepository.lockDoctorSchedule(DOCTOR_SCHEDULE_LOCK, request.getDoctorId());
+        List<ScheduledSlot> existing = appointmentRepository.findOverlapping(request.getDoctorId(),
+                        candidates.get(0).getAppointmentDate(),
+                        candidates.get(candidates.size() - 1).getAppointmentDate().plusMinutes(duration))
+                .stream()
+                .map(ScheduledSlot::of)
+                .toList();
+        int conflicts = markSeriesConflicts(candidates, existing, duration);
+        for (SeriesOccurrenceDTO occurrence : candidates) {
+            if (occurrence.getStatus() == SeriesOccurrenceStatus.AVAILABLE && slotHolds.isHeld(new ScheduledSlot(null,
+                    request.getDoctorId(), occurrence.getAppointmentDate(), occurrence.getAppointmentDate().plusMinutes(duration), true), null)) {
+                occurrence.setStatus(SeriesOccurrenceStatus.CONFLICT);
+                conflicts++;
+            }
+        }
+        
+        List<SeriesOccurrenceDTO> free = candidates.stream()
+                .filter(occurrence -> occurrence.getStatus() == SeriesOccurrenceStatus.AVAILABLE)
+                .toList();
+        if ((conflicts > 0 && !request.isSkipConflicts()) || free.isEmpty()) {
+            return new AppointmentSeriesResultDTO(false, 0, conflicts, occurrences);
+        }
+        
+        List<Appointment> appointments = free.stream()
+                .map(occurrence -> {
+                    Appointment appointment = new Appointment();
+                    appointment.setPatientId(request.getPatientId());
+                    appointment.setDoctorId(request.getDoctorId());
+                    appointment.setAppointmentDate(occurrence.getAppointmentDate());
+                    appointment.setDurationMinutes(duration);
+                    appointment.setStatus(AppointmentStatus.PENDING);
+                    appointment.setNotes(request.getNotes());
+                    appointment.setReason(request.getReason());
+                    return appointment;
+                })
+                .collect(Collectors.toList());
+        List<Appointment> saved = appointmentRepository.saveAll(appointments);
+        for (int i = 0; i < saved.size(); i++) {
+            Appointment appointment = saved.get(i);
+            recordChange(null, appointment);
+            free.get(i).setStatus(SeriesOccurrenceStatus.CREATED);
+            free.get(i).setAppointmentId(appointment.getId());
+        }
+        eventPublisher.publishCreated(saved);
+        return new AppointmentSeriesResultDTO(true, saved.size(), conflicts, occurrences);
+    }
+    
     public AppointmentDTO updateAppointment(Integer id, AppointmentDTO appointmentDTO) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Appointment not found with id: " + id));
+        ScheduledSlot before = ScheduledSlot.of(appointment);
         
         appointment.setPatientId(appointmentDTO.getPatientId());
         appointment.setDoctorId(appointmentDTO.getDoctorId());
@@ -87,15 +417,17 @@ public class AppointmentService {
         appointment.setNotes(appointmentDTO.getNotes());
         appointment.setReason(appointmentDTO.getReason());
         
+        ensureSlotFree(appointment);
         appointment = appointmentRepository.save(appointment);
+        recordChange(before, appointment);
         return toDTO(appointment);
     }
     
     public void deleteAppointment(Integer id) {
-        if (!appointmentRepository.existsById(id)) {
-            throw new RuntimeException("Appointment not found with id: " + id);
-        }
-        appointmentRepository.deleteById(id);
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found with id: " + id));
+        appointmentRepository.delete(appointment);
+        recordChange(ScheduledSlot.of(appointment), null);
     }
     
     @Transactional(readOnly = true)
@@ -106,6 +438,7 @@ public class AppointmentService {
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(value = AppointmentCaches.DOCTOR_APPOINTMENTS, key = "#doctorId")
     @Transactional(readOnly = true)
     public List<AppointmentDTO> getAppointmentsByDoctorId(Integer doctorId) {
         return appointmentRepository.findByDoctorId(doctorId)
@@ -116,7 +449,7 @@ public class AppointmentService {
     
     @Transactional(readOnly = true)
     public List<AppointmentDTO> getAppointmentsByStatus(String status) {
-        return appointmentRepository.findByStatus(status)
+        return appointmentRepository.findByStatus(parseStatus(status))
                 .stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
@@ -127,33 +460,12 @@ public class AppointmentService {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Appointment not found with id: " + id));
         
-        AppointmentDetailDTO detailDTO = new AppointmentDetailDTO();
-        detailDTO.setId(appointment.getId());
-        detailDTO.setPatientId(appointment.getPatientId());
-        detailDTO.setDoctorId(appointment.getDoctorId());
-        detailDTO.setAppointmentDate(appointment.getAppointmentDate());
-        detailDTO.setDurationMinutes(appointment.getDurationMinutes());
-        detailDTO.setStatus(appointment.getStatus());
-        detailDTO.setNotes(appointment.getNotes());
-        detailDTO.setReason(appointment.getReason());
+        CompletableFuture<Map<String, Object>> patient = appointmentEnricher.fetchPatient(appointment.getPatientId());
+        CompletableFuture<DoctorProfile> doctor = appointmentEnricher.fetchDoctor(appointment.getDoctorId());
         
-        try {
-            Map<String, Object> patient = patientServiceClient.getPatientById(appointment.getPatientId());
-            detailDTO.setPatientName(patient.get("name") + " " + patient.get("surname"));
-            detailDTO.setPatientEmail((String) patient.get("email"));
-        } catch (Exception e) {
-            detailDTO.setPatientName("Patient not found");
-            detailDTO.setPatientEmail("N/A");
-        }
-        
-        try {
-            Map<String, Object> doctor = doctorServiceClient.getDoctorById(appointment.getDoctorId());
-            detailDTO.setDoctorName(doctor.get("name") + " " + doctor.get("surname"));
-            detailDTO.setDoctorSpecialization((String) doctor.get("specialization"));
-        } catch (Exception e) {
-            detailDTO.setDoctorName("Doctor not found");
-            detailDTO.setDoctorSpecialization("N/A");
-        }
+        AppointmentDetailDTO detailDTO = toDetailDTO(appointment);
+        applyPatient(detailDTO, patient.join());
+        applyDoctor(detailDTO, doctor.join());
         
         return detailDTO;
     }
@@ -162,50 +474,31 @@ public class AppointmentService {
     public List<AppointmentDetailDTO> getAppointmentDetailsByDoctorId(Integer doctorId) {
         List<Appointment> appointments = appointmentRepository.findByDoctorId(doctorId);
 
-        Map<Integer, Map<String, Object>> patientCache = new HashMap<>();
+        Map<Integer, Map<String, Object>> patients = fetchPatientsByIds(appointments.stream()
+                .map(Appointment::getPatientId)
+                .collect(Collectors.toSet()));
 
         return appointments.stream()
                 .map(appointment -> {
-                    AppointmentDetailDTO detailDTO = new AppointmentDetailDTO();
-                    detailDTO.setId(appointment.getId());
-                    detailDTO.setPatientId(appointment.getPatientId());
-                    detailDTO.setDoctorId(appointment.getDoctorId());
-                    detailDTO.setAppointmentDate(appointment.getAppointmentDate());
-                    detailDTO.setDurationMinutes(appointment.getDurationMinutes());
-                    detailDTO.setStatus(appointment.getStatus());
-                    detailDTO.setNotes(appointment.getNotes());
-                    detailDTO.setReason(appointment.getReason());
-
-                    Integer patientId = appointment.getPatientId();
-                    if (patientId != null) {
-                        Map<String, Object> patient = patientCache.computeIfAbsent(patientId, id -> {
-                            try {
-                                return patientServiceClient.getPatientById(id);
-                            } catch (Exception ignored) {
-                                return null;
-                            }
-                        });
-
-                        if (patient != null) {
-                            detailDTO.setPatientName(patient.get("name") + " " + patient.get("surname"));
-                            detailDTO.setPatientEmail((String) patient.get("email"));
-                        } else {
-                            detailDTO.setPatientName("Patient not found");
-                            detailDTO.setPatientEmail("N/A");
-                        }
-                    } else {
-                        detailDTO.setPatientName("Patient not found");
-                        detailDTO.setPatientEmail("N/A");
-                    }
-
+                    AppointmentDetailDTO detailDTO = toDetailDTO(appointment);
+                    applyPatient(detailDTO, patients.get(appointment.getPatientId()));
                     detailDTO.setDoctorName("Current Doctor");
                     detailDTO.setDoctorSpecialization("N/A");
-
                     return detailDTO;
                 })
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Returns the doctor's appointments on one day, ordered by time and enriched with patient and
+     * doctor details. Served from the agenda read model; only the first request after a change to
+     * that doctor-day touches the database and the remote services.
+     */
+    @Transactional(readOnly = true)
+    public DoctorAgendaDTO getDoctorAgenda(Integer doctorId, LocalDate date) {
+        return doctorAgendas.agenda(doctorId, date, this::buildAgenda);
+    }
+    
     @Transactional(readOnly = true)
     public List<AppointmentDetailDTO> getAppointmentDetailsByPatientId(Integer patientId) {
         Map<String, Object> patientDetails = null;
@@ -215,37 +508,17 @@ public class AppointmentService {
         }
 
         Map<String, Object> finalPatientDetails = patientDetails;
+        List<Appointment> appointments = appointmentRepository.findByPatientId(patientId);
 
-        return appointmentRepository.findByPatientId(patientId)
-            .stream()
-            .map(appointment -> {
-                AppointmentDetailDTO detailDTO = new AppointmentDetailDTO();
-                detailDTO.setId(appointment.getId());
-                detailDTO.setPatientId(appointment.getPatientId());
-                detailDTO.setDoctorId(appointment.getDoctorId());
-                detailDTO.setAppointmentDate(appointment.getAppointmentDate());
-                detailDTO.setDurationMinutes(appointment.getDurationMinutes());
-                detailDTO.setStatus(appointment.getStatus());
-                detailDTO.setNotes(appointment.getNotes());
-                detailDTO.setReason(appointment.getReason());
-
-                if (finalPatientDetails != null) {
-                    detailDTO.setPatientName(finalPatientDetails.get("name") + " " + finalPatientDetails.get("surname"));
-                    detailDTO.setPatientEmail((String) finalPatientDetails.get("email"));
-                } else {
-                    detailDTO.setPatientName("Patient not found");
-                    detailDTO.setPatientEmail("N/A");
-                }
-
-                try {
-                    Map<String, Object> doctor = doctorServiceClient.getDoctorById(appointment.getDoctorId());
-                    detailDTO.setDoctorName(doctor.get("name") + " " + doctor.get("surname"));
-                    detailDTO.setDoctorSpecialization((String) doctor.get("specialization"));
-                } catch (Exception e) {
-                    detailDTO.setDoctorName("Doctor not found");
-                    detailDTO.setDoctorSpecialization("N/A");
-                }
+        Map<Integer, DoctorProfile> doctors = doctorDirectory.findAll(appointments.stream()
+                .map(Appointment::getDoctorId)
+                .collect(Collectors.toSet()));
 
+        return appointments.stream()
+            .map(appointment -> {
+                AppointmentDetailDTO detailDTO = toDetailDTO(appointment);
+                applyPatient(detailDTO, finalPatientDetails);
+                applyDoctor(detailDTO, doctors.get(appointment.getDoctorId()));
                 return detailDTO;
             })
             .collect(Collectors.toList());
@@ -258,6 +531,7 @@ public class AppointmentService {
         if (request.getNewAppointmentDate().isBefore(LocalDateTime.now())) {
             throw new RuntimeException("New appointment date must be in the future");
         }
+        ScheduledSlot before = ScheduledSlot.of(appointment);
         
         appointment.setAppointmentDate(request.getNewAppointmentDate());
         if (request.getDurationMinutes() != null) {
@@ -265,7 +539,9 @@ public class AppointmentService {
         }
         appointment.setStatus(AppointmentStatus.SCHEDULED);
         
+        ensureSlotFree(appointment);
         appointment = appointmentRepository.save(appointment);
+        recordChange(before, appointment);
         eventPublisher.publishRescheduled(appointment);
         return toDTO(appointment);
     }
@@ -278,8 +554,10 @@ public class AppointmentService {
             throw new RuntimeException("Only pending appointments can be approved");
         }
         
+        ScheduledSlot before = ScheduledSlot.of(appointment);
         appointment.setStatus(AppointmentStatus.SCHEDULED);
         appointment = appointmentRepository.save(appointment);
+        recordChange(before, appointment);
         eventPublisher.publishApproved(appointment);
         return toDTO(appointment);
     }
@@ -292,119 +570,439 @@ public class AppointmentService {
             throw new RuntimeException("Only pending appointments can be rejected");
         }
         
+        ScheduledSlot before = ScheduledSlot.of(appointment);
         appointment.setStatus(AppointmentStatus.REJECTED);
         if (reason != null && !reason.isEmpty()) {
             appointment.setNotes((appointment.getNotes() != null ? appointment.getNotes() + "\n" : "") + "Rejection reason: " + reason);
         }
         appointment = appointmentRepository.save(appointment);
+        recordChange(before, appointment);
         eventPublisher.publishRejected(appointment);
         return toDTO(appointment);
     }
     
+    public List<BulkStatusChangeResultDTO> approveAppointments(List<Integer> ids) {
+        return changeStatuses(ids, EnumSet.of(AppointmentStatus.PENDING), AppointmentStatus.SCHEDULED, null,
+                eventPublisher::publishApproved);
+    }
+    
+    public List<BulkStatusChangeResultDTO> rejectAppointments(List<Integer> ids, String reason) {
+        return changeStatuses(ids, EnumSet.of(AppointmentStatus.PENDING), AppointmentStatus.REJECTED,
+                reason != null && !reason.isEmpty() ? "Rejection reason: " + reason : null,
+                eventPublisher::publishRejected);
+    }
+    
+    public List<BulkStatusChangeResultDTO> cancelAppointments(List<Integer> ids, String reason) {
+        return changeStatuses(ids, CANCELLABLE, AppointmentStatus.CANCELLED,
+                reason != null && !reason.isEmpty() ? "Cancellation reason: " + reason : null,
+                eventPublisher::publishCancelled);
+    }
+    
+    /**
+     * Expires one chunk of PENDING appointments that started before {@code cutoff}, continuing after
+     * the keyset position ({@code afterDate}, {@code afterId}). Each call is its own short
+     * transaction, so {@link PendingAppointmentSweeper} never holds locks across chunks.
+     */
+    public List<AppointmentDTO> expirePendingAppointments(LocalDateTime cutoff, LocalDateTime afterDate, Integer afterId, int limit) {
+        List<Appointment> expired = appointmentRepository.expirePendingBefore(cutoff, afterDate, afterId, limit, LocalDateTime.now());
+        expired.forEach(this::recordLeftBlockingStatus);
+        eventPublisher.publishExpired(expired);
+        return expired.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+    
+    @Cacheable(value = AppointmentCaches.TIME_SLOTS,
+            key = "T(com.healthcare.appointment.service.AppointmentCaches).slotKey(#doctorId, #date)",
+            condition = "#excludeAppointmentId == null",
+            sync = true)
     @Transactional(readOnly = true)
     public List<TimeSlotDTO> getAvailableTimeSlots(Integer doctorId, LocalDate date, Integer excludeAppointmentId) {
-        Map<String, Object> doctor = doctorServiceClient.getDoctorById(doctorId);
+        DoctorProfile doctor = doctorDirectory.find(doctorId)
+                .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + doctorId));
         
-        LocalTime startTime = LocalTime.of(9, 0);
-        LocalTime endTime = LocalTime.of(17, 0);
-        
-        try {
-            startTime = resolveTime(doctor.get("workingHoursStart"), startTime);
-            endTime = resolveTime(doctor.get("workingHoursEnd"), endTime);
-        } catch (Exception ignored) {
+        WorkingDay workingDay = doctorWorkingSchedules.of(doctor).on(date);
+        if (!workingDay.isWorking()) {
+            return new ArrayList<>();
         }
         
-        String workingDays = (String) doctor.get("workingDays");
-        if (!isDoctorWorkingOnDate(workingDays, date)) {
-            return new ArrayList<>();
+        SlotBitmap blocked = doctorScheduleIndex.daySchedule(doctorId, date).occupancy(excludeAppointmentId)
+                .or(slotHolds.occupancy(doctorId, date));
+        blockPast(blocked, date, LocalDateTime.now());
+        
+        List<TimeSlotDTO> slots = new ArrayList<>();
+        for (WorkingDay.Shift shift : workingDay.shifts()) {
+            LocalDateTime shiftEnd = LocalDateTime.of(date, shift.end());
+            LocalDateTime slotStart = LocalDateTime.of(date, shift.start());
+            LocalDateTime slotEnd = slotStart.plusMinutes(30);
+            
+            while (!slotEnd.isAfter(shiftEnd)) {
+                TimeSlotDTO slot = new TimeSlotDTO();
+                slot.setStartTime(slotStart);
+                slot.setEndTime(slotEnd);
+                slot.setDisplayTime(slotStart.toLocalTime().format(TIME_FORMATTER));
+                slot.setAvailable(blocked.isClear(SlotBitmap.floorGranule(date, slotStart), SlotBitmap.ceilGranule(date, slotEnd)));
+                slots.add(slot);
+                
+                slotStart = slotEnd;
+                slotEnd = slotEnd.plusMinutes(30);
+            }
         }
         
-        LocalDateTime dayStart = LocalDateTime.of(date, startTime);
-        LocalDateTime dayEnd = LocalDateTime.of(date, endTime);
+        return slots;
+    }
+
+    /**
+     * Opens a server-sent event stream of the doctor's slots on {@code date}: the current
+     * {@link #getAvailableTimeSlots} result first, then a delta for every booking that takes or frees time.
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter streamAvailableTimeSlots(Integer doctorId, LocalDate date) {
+        return slotAvailabilityStreams.subscribe(doctorId, date, () -> getAvailableTimeSlots(doctorId, date, null));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DoctorSlotDTO> findEarliestAvailableSlots(String specialization, String department,
+                                                          LocalDate from, LocalDate to, int slotMinutes, int limit) {
+        if ((specialization == null) == (department == null)) {
+            throw new IllegalArgumentException("Exactly one of specialization or department is required");
+        }
+        if (to.isBefore(from) || from.plusDays(MAX_SEARCH_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("Search window must be between 1 and " + (MAX_SEARCH_DAYS + 1) + " days");
+        }
+        if (slotMinutes < SlotBitmap.GRANULE_MINUTES || slotMinutes > 480 || slotMinutes % SlotBitmap.GRANULE_MINUTES != 0
+                || limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("Slot length must be a multiple of " + SlotBitmap.GRANULE_MINUTES
+                    + " up to 480 minutes and limit 1-100");
+        }
+
+        Map<Integer, DoctorProfile> doctors = doctorDirectory.remember(specialization != null
+                        ? doctorServiceClient.getDoctorsBySpecialization(specialization)
+                        : doctorServiceClient.getDoctorsByDepartment(department))
+                .stream()
+                .filter(DoctorProfile::active)
+                .collect(Collectors.toMap(DoctorProfile::id, Function.identity(), (first, second) -> first));
+        if (doctors.isEmpty()) {
+            return List.of();
+        }
 
-        List<Appointment> existingAppointments = appointmentRepository
-                .findByDoctorIdAndDateRange(doctorId, dayStart, dayEnd)
+        Map<Integer, Map<LocalDate, List<Appointment>>> appointmentsByDoctorDay = appointmentRepository
+                .findByDoctorIdInAndDateRange(doctors.keySet(), from.atStartOfDay(), to.atTime(LocalTime.MAX))
                 .stream()
-                .filter(apt -> !AppointmentStatus.CANCELLED.equals(apt.getStatus())
-                        && (excludeAppointmentId == null || !apt.getId().equals(excludeAppointmentId)))
+                .collect(Collectors.groupingBy(Appointment::getDoctorId,
+                        Collectors.groupingBy(appointment -> appointment.getAppointmentDate().toLocalDate())));
+
+        // schedules may have to be fetched from doctor-service, so they are resolved up front and the
+        // per-doctor evaluation below stays pure in-memory work
+        Map<Integer, WorkingSchedule> schedules = doctors.values().stream()
+                .collect(Collectors.toMap(DoctorProfile::id, doctorWorkingSchedules::of));
+
+        LocalDateTime now = LocalDateTime.now();
+        return doctors.entrySet().stream()
+                .flatMap(entry -> earliestSlotsForDoctor(entry.getValue(), schedules.get(entry.getKey()),
+                        appointmentsByDoctorDay.getOrDefault(entry.getKey(), Map.of()),
+                        from, to, slotMinutes, limit, now).stream())
+                .sorted(Comparator.comparing(DoctorSlotDTO::getStartTime).thenComparing(DoctorSlotDTO::getDoctorId))
+                .limit(limit)
                 .collect(Collectors.toList());
+    }
+
+    private List<DoctorSlotDTO> earliestSlotsForDoctor(DoctorProfile doctor, WorkingSchedule schedule,
+                                                       Map<LocalDate, List<Appointment>> appointmentsByDay,
+                                                       LocalDate from, LocalDate to, int slotMinutes, int limit, LocalDateTime now) {
+        String doctorName = doctor.fullName();
+        int length = SlotBitmap.granulesFor(slotMinutes);
+
+        List<DoctorSlotDTO> found = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to) && found.size() < limit; date = date.plusDays(1)) {
+            WorkingDay workingDay = schedule.on(date);
+            if (!workingDay.isWorking()) {
+                continue;
+            }
+            SlotBitmap blocked = DaySchedule.of(date, appointmentsByDay.getOrDefault(date, List.of()))
+                    .occupancy(null)
+                    .or(workingDay.offHours())
+                    .or(slotHolds.occupancy(doctor.id(), date));
+            blockPast(blocked, date, now);
+            int granule = 0;
+            while (found.size() < limit) {
+                int start = blocked.nextClearRun(granule, length, SlotBitmap.GRANULES_PER_DAY);
+                if (start < 0) {
+                    break;
+                }
+                LocalDateTime slotStart = SlotBitmap.timeOf(date, start);
+                found.add(new DoctorSlotDTO(doctor.id(), doctorName, slotStart, slotStart.plusMinutes(slotMinutes),
+                        slotStart.toLocalTime().format(TIME_FORMATTER)));
+                granule = start + length;
+            }
+        }
+        return found;
+    }
+
+    private DoctorAgendas.Agenda buildAgenda(Integer doctorId, LocalDate date) {
+        CompletableFuture<DoctorProfile> doctorFuture = appointmentEnricher.fetchDoctor(doctorId);
+        List<Appointment> appointments = new ArrayList<>(appointmentRepository.findByDoctorIdAndDateRange(
+                doctorId, date.atStartOfDay(), date.atTime(LocalTime.MAX)));
+        appointments.sort(Comparator.comparing(Appointment::getAppointmentDate).thenComparing(Appointment::getId));
         
-        List<TimeSlotDTO> slots = new ArrayList<>();
-        LocalDateTime slotStart = dayStart;
-        LocalDateTime slotEnd = slotStart.plusMinutes(30);
+        Set<Integer> patientIds = appointments.stream()
+                .map(Appointment::getPatientId)
+                .collect(Collectors.toSet());
+        Map<Integer, Map<String, Object>> patients = fetchPatientsByIds(patientIds);
+        DoctorProfile doctor = doctorFuture.join();
         
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+        List<AppointmentDetailDTO> details = appointments.stream()
+                .map(appointment -> {
+                    AppointmentDetailDTO detailDTO = toDetailDTO(appointment);
+                    applyPatient(detailDTO, patients.get(appointment.getPatientId()));
+                    applyDoctor(detailDTO, doctor);
+                    return detailDTO;
+                })
+                .collect(Collectors.toList());
         
-        while (slotEnd.isBefore(dayEnd) || slotEnd.isEqual(dayEnd)) {
-            TimeSlotDTO slot = new TimeSlotDTO();
-            slot.setStartTime(slotStart);
-            slot.setEndTime(slotEnd);
-            slot.setDisplayTime(slotStart.toLocalTime().format(timeFormatter));
-            
-            boolean isAvailable = true;
-            for (Appointment apt : existingAppointments) {
-                LocalDateTime aptStart = apt.getAppointmentDate();
-                LocalDateTime aptEnd = aptStart.plusMinutes(apt.getDurationMinutes() != null ? apt.getDurationMinutes() : 30);
-                
-                if (slotStart.isBefore(aptEnd) && slotEnd.isAfter(aptStart)) {
-                    isAvailable = false;
+        DoctorAgendaDTO agenda = new DoctorAgendaDTO(doctorId,
+                doctor != null ? doctor.fullName() : "Doctor not found",
+                doctor != null ? doctor.specialization() : "N/A",
+                date, details);
+        // an inactive doctor in the replica is a definite answer, a failed remote lookup is not
+        boolean complete = (doctor != null || doctorDirectory.isReplicated(doctorId))
+                && patients.keySet().containsAll(patientIds);
+        return new DoctorAgendas.Agenda(agenda, complete);
+    }
+
+    /**
+     * Moves the appointments in {@code ids} that are in one of the {@code from} statuses to {@code to}
+     * with one set-based UPDATE, so a concurrent change to any of them is never overwritten, and
+     * writes the events of the changed ones as one outbox batch. Returns an outcome per distinct id,
+     * in request order; ids that are unknown or in another status are left untouched.
+     */
+    private List<BulkStatusChangeResultDTO> changeStatuses(List<Integer> ids, Set<AppointmentStatus> from, AppointmentStatus to,
+                                                           String note, Consumer<List<Appointment>> publish) {
+        Set<Integer> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one appointment id is required");
+        }
+        if (requested.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " appointments can be changed at once");
+        }
+        
+        Set<Integer> changed = new HashSet<>(appointmentRepository.transitionStatus(requested,
+                from.stream().map(AppointmentStatus::name).toList(), to.name(), note, LocalDateTime.now()));
+        Map<Integer, Appointment> appointments = appointmentRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+        
+        List<Appointment> updated = new ArrayList<>(changed.size());
+        List<BulkStatusChangeResultDTO> results = new ArrayList<>(requested.size());
+        for (Integer id : requested) {
+            Appointment appointment = appointments.get(id);
+            if (appointment == null) {
+                results.add(new BulkStatusChangeResultDTO(id, BulkStatusChangeOutcome.NOT_FOUND, null));
+            } else if (!changed.contains(id)) {
+                results.add(new BulkStatusChangeResultDTO(id, BulkStatusChangeOutcome.INVALID_STATUS, appointment.getStatus()));
+            } else {
+                recordLeftBlockingStatus(appointment);
+                updated.add(appointment);
+                results.add(new BulkStatusChangeResultDTO(id, BulkStatusChangeOutcome.UPDATED, appointment.getStatus()));
+            }
+        }
+        publish.accept(updated);
+        return results;
+    }
+
+    /**
+     * {@link #recordChange} for an appointment a set-based UPDATE moved out of a status that blocks
+     * its slot; time and doctor are unchanged, so only the blocking flag differs from before.
+     */
+    private void recordLeftBlockingStatus(Appointment appointment) {
+        ScheduledSlot after = ScheduledSlot.of(appointment);
+        recordChange(after != null
+                ? new ScheduledSlot(after.appointmentId(), after.doctorId(), after.start(), after.end(), true)
+                : null, appointment);
+    }
+
+    private void recordChange(ScheduledSlot before, Appointment after) {
+        ScheduledSlot afterSlot = ScheduledSlot.of(after);
+        Integer appointmentId = after != null ? after.getId() : before != null ? before.appointmentId() : null;
+        doctorScheduleIndex.record(before, afterSlot);
+        doctorAgendas.evict(before, afterSlot);
+        slotAvailabilityStreams.publish(before, afterSlot);
+        appointmentCaches.evict(appointmentId, before, afterSlot);
+        appointmentReminders.track(appointmentId, after);
+    }
+
+    /**
+     * Rejects the write with a conflict if the appointment would overlap another booking of the same doctor.
+     * A transaction-scoped advisory lock per doctor serializes concurrent bookings for that doctor only,
+     * across all replicas, until the surrounding transaction ends.
+     */
+    private void ensureSlotFree(Appointment appointment) {
+        ensureSlotFree(appointment, null);
+    }
+
+    /**
+     * {@link #ensureSlotFree(Appointment)} that also rejects slots held by anyone but {@code holdToken}.
+     */
+    private void ensureSlotFree(Appointment appointment, UUID holdToken) {
+        ScheduledSlot slot = ScheduledSlot.of(appointment);
+        if (slot == null || !slot.blocking()) {
+            return;
+        }
+        ensureNotHeld(slot, holdToken);
+        appointmentRepository.lockDoctorSchedule(DOCTOR_SCHEDULE_LOCK, slot.doctorId());
+        Integer excludeId = slot.appointmentId() != null ? slot.appointmentId() : 0;
+        if (appointmentRepository.existsOverlapping(slot.doctorId(), slot.start(), slot.end(), excludeId)) {
+            throw new AppointmentConflictException("Doctor " + slot.doctorId() + " already has an appointment between "
+                    + slot.start() + " and " + slot.end());
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #ensureSlotFree(Appointment)}: locks every affected doctor in id order, so
+     * concurrent bulk requests cannot deadlock, and also rejects overlaps within the batch itself.
+     */
+    private void ensureSlotsFree(List<Appointment> appointments) {
+        Map<Integer, List<ScheduledSlot>> slotsByDoctor = appointments.stream()
+                .map(ScheduledSlot::of)
+                .filter(slot -> slot != null && slot.blocking())
+                .collect(Collectors.groupingBy(ScheduledSlot::doctorId, TreeMap::new, Collectors.toList()));
+        
+        for (Map.Entry<Integer, List<ScheduledSlot>> entry : slotsByDoctor.entrySet()) {
+            appointmentRepository.lockDoctorSchedule(DOCTOR_SCHEDULE_LOCK, entry.getKey());
+            List<ScheduledSlot> slots = new ArrayList<>(entry.getValue());
+            slots.sort(Comparator.comparing(ScheduledSlot::start));
+            // a long slot can reach past several shorter ones, so compare with the latest end so far
+            LocalDateTime latestEnd = null;
+            for (ScheduledSlot slot : slots) {
+                ensureNotHeld(slot, null);
+                if (latestEnd != null && slot.start().isBefore(latestEnd)) {
+                    throw new AppointmentConflictException("Appointments for doctor " + slot.doctorId()
+                            + " overlap each other at " + slot.start());
+                }
+                if (latestEnd == null || slot.end().isAfter(latestEnd)) {
+                    latestEnd = slot.end();
+                }
+                if (appointmentRepository.existsOverlapping(slot.doctorId(), slot.start(), slot.end(), 0)) {
+                    throw new AppointmentConflictException("Doctor " + slot.doctorId() + " already has an appointment between "
+                            + slot.start() + " and " + slot.end());
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the occurrences that overlap an existing appointment or an earlier free occurrence of the
+     * same series as conflicts, in one merge pass over both lists sorted by start, and returns how
+     * many there are.
+     */
+    private static int markSeriesConflicts(List<SeriesOccurrenceDTO> candidates, List<ScheduledSlot> existing, int duration) {
+        long longestMinutes = existing.stream()
+                .mapToLong(slot -> Duration.between(slot.start(), slot.end()).toMinutes())
+                .max()
+                .orElse(0);
+        int conflicts = 0;
+        int first = 0;
+        LocalDateTime previousEnd = null;
+        for (SeriesOccurrenceDTO occurrence : candidates) {
+            LocalDateTime start = occurrence.getAppointmentDate();
+            LocalDateTime end = start.plusMinutes(duration);
+            // nothing starting this far back can still reach this occurrence, nor any later one
+            while (first < existing.size() && !existing.get(first).start().plusMinutes(longestMinutes).isAfter(start)) {
+                first++;
+            }
+            ScheduledSlot clash = null;
+            for (int i = first; i < existing.size() && existing.get(i).start().isBefore(end); i++) {
+                if (existing.get(i).end().isAfter(start)) {
+                    clash = existing.get(i);
                     break;
                 }
             }
-            
-            if (slotStart.isBefore(LocalDateTime.now())) {
-                isAvailable = false;
+            if (clash != null || (previousEnd != null && start.isBefore(previousEnd))) {
+                occurrence.setStatus(SeriesOccurrenceStatus.CONFLICT);
+                occurrence.setConflictingAppointmentId(clash != null ? clash.appointmentId() : null);
+                conflicts++;
+            } else {
+                previousEnd = end;
             }
-            
-            slot.setAvailable(isAvailable);
-            slots.add(slot);
-            
-            slotStart = slotStart.plusMinutes(30);
-            slotEnd = slotEnd.plusMinutes(30);
         }
-        
-        return slots;
+        return conflicts;
     }
 
-    @SuppressWarnings("unchecked")
-    private LocalTime resolveTime(Object raw, LocalTime defaultTime) {
-        if (raw == null) {
-            return defaultTime;
+    private void ensureNotHeld(ScheduledSlot slot, UUID holdToken) {
+        if (slotHolds.isHeld(slot, holdToken)) {
+            throw new AppointmentConflictException("Doctor " + slot.doctorId() + " has a slot held for another booking between "
+                    + slot.start() + " and " + slot.end());
         }
-        if (raw instanceof String) {
-            return LocalTime.parse((String) raw);
+    }
+
+    private static AppointmentStatus parseStatus(String status) {
+        try {
+            return AppointmentStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown appointment status: " + status);
         }
-        if (raw instanceof Map) {
-            Map<String, Object> timeMap = (Map<String, Object>) raw;
-            Integer hour = (Integer) timeMap.get("hour");
-            Integer minute = (Integer) timeMap.get("minute");
-            if (hour != null && minute != null) {
-                return LocalTime.of(hour, minute);
-            }
+    }
+
+    private void blockPast(SlotBitmap blocked, LocalDate date, LocalDateTime now) {
+        blocked.set(0, SlotBitmap.ceilGranule(date, now));
+    }
+
+    private Map<Integer, Map<String, Object>> fetchPatientsByIds(Set<Integer> ids) {
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return indexById(patientServiceClient.getPatientsByIds(ids));
+        } catch (Exception ignored) {
+            return Map.of();
         }
-        return defaultTime;
     }
 
-    private boolean isDoctorWorkingOnDate(String workingDays, LocalDate date) {
-        if (workingDays == null || workingDays.isEmpty()) {
-            return true;
+    private Map<Integer, Map<String, Object>> indexById(List<Map<String, Object>> records) {
+        Map<Integer, Map<String, Object>> byId = new HashMap<>();
+        if (records == null) {
+            return byId;
         }
+        for (Map<String, Object> record : records) {
+            if (record.get("id") instanceof Number id) {
+                byId.put(id.intValue(), record);
+            }
+        }
+        return byId;
+    }
 
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        String dayName = dayOfWeek.name();
+    private void applyPatient(AppointmentDetailDTO detailDTO, Map<String, Object> patient) {
+        if (patient != null) {
+            detailDTO.setPatientName(patient.get("name") + " " + patient.get("surname"));
+            detailDTO.setPatientEmail((String) patient.get("email"));
+        } else {
+            detailDTO.setPatientName("Patient not found");
+            detailDTO.setPatientEmail("N/A");
+        }
+    }
 
-        List<String> days = new ArrayList<>();
-        String[] parts = workingDays.split(",");
-        for (String part : parts) {
-            String trimmed = part.trim().toUpperCase();
-            if (trimmed.equals("MON-FRI") || trimmed.equals("MONDAY-FRIDAY")) {
-                days.addAll(Arrays.asList("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"));
-                continue;
-            }
-            days.add(trimmed);
+    private void applyDoctor(AppointmentDetailDTO detailDTO, DoctorProfile doctor) {
+        if (doctor != null) {
+            detailDTO.setDoctorName(doctor.fullName());
+            detailDTO.setDoctorSpecialization(doctor.specialization());
+        } else {
+            detailDTO.setDoctorName("Doctor not found");
+            detailDTO.setDoctorSpecialization("N/A");
         }
+    }
 
-        return days.contains(dayName);
+    private AppointmentDetailDTO toDetailDTO(Appointment appointment) {
+        AppointmentDetailDTO detailDTO = new AppointmentDetailDTO();
+        detailDTO.setId(appointment.getId());
+        detailDTO.setPatientId(appointment.getPatientId());
+        detailDTO.setDoctorId(appointment.getDoctorId());
+        detailDTO.setAppointmentDate(appointment.getAppointmentDate());
+        detailDTO.setDurationMinutes(appointment.getDurationMinutes());
+        detailDTO.setStatus(appointment.getStatus());
+        detailDTO.setNotes(appointment.getNotes());
+        detailDTO.setReason(appointment.getReason());
+        return detailDTO;
     }
     
     private AppointmentDTO toDTO(Appointment appointment) {
@@ -420,6 +1018,17 @@ public class AppointmentService {
         return dto;
     }
     
+    private Appointment toNewEntity(AppointmentDTO dto) {
+        Appointment appointment = toEntity(dto);
+        if (appointment.getStatus() == null) {
+            appointment.setStatus(AppointmentStatus.PENDING);
+        }
+        if (appointment.getDurationMinutes() == null) {
+            appointment.setDurationMinutes(30);
+        }
+        return appointment;
+    }
+    
     private Appointment toEntity(AppointmentDTO dto) {
         Appointment appointment = new Appointment();
         appointment.setPatientId(dto.getPatientId());
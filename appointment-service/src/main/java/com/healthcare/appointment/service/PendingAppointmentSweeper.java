@@ -0,0 +1,120 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.dto.AppointmentDTO;
+import com.healthcare.appointment.enums.AppointmentStatus;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves PENDING appointments that were never approved to EXPIRED once their start time is more than
+ * {@code grace} in the past. Each run walks the expired rows in (appointment date, id) keyset order
+ * in bounded chunks; every chunk is one set-based UPDATE in its own transaction that skips rows
+ * other transactions hold, and publishes its events as one outbox batch.
+ * <p>
+ * Exposes the rows expired, the throughput of the last run and the age of the oldest PENDING
+ * appointment still waiting to be expired.
+ */
+@Component
+public class PendingAppointmentSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingAppointmentSweeper.class);
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AppointmentService appointmentService;
+    private final AppointmentRepository appointmentRepository;
+    private final boolean enabled;
+    private final Duration grace;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Counter expiredCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private volatile double rowsPerSecond;
+
+    public PendingAppointmentSweeper(
+            AppointmentService appointmentService,
+            AppointmentRepository appointmentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.expiry.enabled:true}") boolean enabled,
+            @Value("${app.expiry.grace-minutes:60}") long graceMinutes,
+            @Value("${app.expiry.chunk-size:500}") int chunkSize,
+            @Value("${app.expiry.max-chunks-per-run:50}") int maxChunksPerRun) {
+        this.appointmentService = appointmentService;
+        this.appointmentRepository = appointmentRepository;
+        this.enabled = enabled;
+        this.grace = Duration.ofMinutes(graceMinutes);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.expiredCounter = meterRegistry.counter("appointment.expiry.expired");
+        this.chunkTimer = meterRegistry.timer("appointment.expiry.chunk");
+        Gauge.builder("appointment.expiry.lag.seconds", lagSeconds, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("appointment.expiry.rows.per.second", this, sweeper -> sweeper.rowsPerSecond).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.expiry.interval-ms:60000}", initialDelayString = "${app.expiry.initial-delay-ms:30000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        LocalDateTime afterDate = KEYSET_START;
+        Integer afterId = 0;
+        long expired = 0;
+        long started = System.nanoTime();
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                Timer.Sample sample = Timer.start();
+                List<AppointmentDTO> rows = appointmentService.expirePendingAppointments(cutoff, afterDate, afterId, chunkSize);
+                sample.stop(chunkTimer);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                expired += rows.size();
+                expiredCounter.increment(rows.size());
+                AppointmentDTO last = rows.stream()
+                        .max(Comparator.comparing(AppointmentDTO::getAppointmentDate).thenComparing(AppointmentDTO::getId))
+                        .orElseThrow();
+                afterDate = last.getAppointmentDate();
+                afterId = last.getId();
+                // a short chunk means the rest is done or locked; locked rows are retried next run
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Expiring pending appointments failed after {} rows, will retry: {}", expired, e.getMessage());
+        } finally {
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            rowsPerSecond = seconds > 0 ? expired / seconds : 0;
+            refreshLag(cutoff);
+        }
+        if (expired > 0) {
+            log.info("Expired {} pending appointments that started before {}", expired, cutoff);
+        }
+    }
+
+    private void refreshLag(LocalDateTime cutoff) {
+        try {
+            lagSeconds.set(appointmentRepository
+                    .findFirstByStatusAndAppointmentDateBeforeOrderByAppointmentDateAsc(AppointmentStatus.PENDING, cutoff)
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getAppointmentDate(), cutoff).toSeconds()))
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh expiry lag: {}", e.getMessage());
+        }
+    }
+}
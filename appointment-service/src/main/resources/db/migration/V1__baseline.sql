@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS appointments (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    patient_id integer NOT NULL,
+    doctor_id integer NOT NULL,
+    appointment_date timestamp(6) NOT NULL,
+    duration_minutes integer,
+    status varchar(255),
+    notes text,
+    reason varchar(255),
+    CONSTRAINT appointments_status_check CHECK (status IN (
+        'PENDING', 'SCHEDULED', 'CONFIRMED', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'NO_SHOW', 'REJECTED', 'EXPIRED'
+    ))
+);
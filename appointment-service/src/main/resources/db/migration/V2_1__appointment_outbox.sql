@@ -0,0 +1,13 @@
+-- The outbox came after the schema V1 describes, so databases baselined at V1 do not have it yet.
+-- Runs before V3, which moves its ids to a sequence.
+
+CREATE TABLE IF NOT EXISTS appointment_outbox (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_key varchar(255) NOT NULL,
+    event_type varchar(50) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    sent_at timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_appointment_outbox_pending ON appointment_outbox (sent_at, id);
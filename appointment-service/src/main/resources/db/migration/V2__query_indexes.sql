@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_appointments_doctor_date ON appointments (doctor_id, appointment_date);
+CREATE INDEX IF NOT EXISTS idx_appointments_patient ON appointments (patient_id);
+CREATE INDEX IF NOT EXISTS idx_appointments_date ON appointments (appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_appointments_status ON appointments (status);
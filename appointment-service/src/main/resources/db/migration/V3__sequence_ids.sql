@@ -0,0 +1,12 @@
+-- Appointments and outbox events move from identity columns to sequences, so Hibernate can
+-- allocate ids in blocks of 50 and batch the inserts.
+
+ALTER TABLE appointments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS appointment_seq INCREMENT BY 50 OWNED BY appointments.id;
+SELECT setval('appointment_seq', COALESCE(MAX(id), 0) + 1, false) FROM appointments;
+ALTER TABLE appointments ALTER COLUMN id SET DEFAULT nextval('appointment_seq');
+
+ALTER TABLE appointment_outbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS outbox_event_seq INCREMENT BY 50 OWNED BY appointment_outbox.id;
+SELECT setval('outbox_event_seq', COALESCE(MAX(id), 0) + 1, false) FROM appointment_outbox;
+ALTER TABLE appointment_outbox ALTER COLUMN id SET DEFAULT nextval('outbox_event_seq');
@@ -0,0 +1,6 @@
+-- Composite indexes for the combined appointment filter, which always orders by (appointment_date, id).
+-- They cover the single-column patient and status indexes, which are dropped.
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_date ON appointments (patient_id, appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_appointments_status_date ON appointments (status, appointment_date, id);
+DROP INDEX IF EXISTS idx_appointments_patient;
+DROP INDEX IF EXISTS idx_appointments_status;
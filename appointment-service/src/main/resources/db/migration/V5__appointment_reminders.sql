@@ -0,0 +1,12 @@
+-- One row per reminder that was sent. Every instance schedules reminders on its own timing wheel;
+-- inserting here first makes sure only one of them publishes each reminder. The appointment date
+-- is part of the key so a rescheduled appointment is reminded again.
+CREATE TABLE IF NOT EXISTS appointment_reminders (
+    appointment_id integer NOT NULL,
+    reminder_type varchar(20) NOT NULL,
+    appointment_date timestamp(6) NOT NULL,
+    sent_at timestamp(6) NOT NULL,
+    PRIMARY KEY (appointment_id, reminder_type, appointment_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_appointment_reminders_date ON appointment_reminders (appointment_date);
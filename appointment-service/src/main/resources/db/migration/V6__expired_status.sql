@@ -0,0 +1,7 @@
+-- Databases first created by Hibernate carry a generated check constraint listing the statuses that
+-- existed at the time, so the pending sweep's EXPIRED updates fail there. Replace it with one covering
+-- every status, the same one the baseline now creates.
+ALTER TABLE appointments DROP CONSTRAINT IF EXISTS appointments_status_check;
+ALTER TABLE appointments ADD CONSTRAINT appointments_status_check CHECK (status IN (
+    'PENDING', 'SCHEDULED', 'CONFIRMED', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'NO_SHOW', 'REJECTED', 'EXPIRED'
+));
@@ -0,0 +1,3 @@
+-- Records whose payload can never be sent are set aside instead of blocking their key forever.
+ALTER TABLE appointment_outbox ADD COLUMN IF NOT EXISTS failed_at timestamp(6);
+ALTER TABLE appointment_outbox ADD COLUMN IF NOT EXISTS failure varchar(500);
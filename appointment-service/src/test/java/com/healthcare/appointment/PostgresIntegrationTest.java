@@ -0,0 +1,41 @@
+package com.healthcare.appointment;
+
+import com.healthcare.appointment.feign.DoctorServiceClient;
+import com.healthcare.appointment.feign.PatientServiceClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the whole service against a Postgres container migrated by Flyway. Discovery, the Kafka
+ * listeners and the background jobs are switched off and the other services are mocked, so tests
+ * only see the writes they make themselves. Skipped where Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.kafka.listener.auto-startup=false",
+        "app.reminders.enabled=false",
+        "app.expiry.enabled=false",
+        "app.waiting-room.enabled=false",
+        "app.outbox.linger-ms=3600000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    // one container per test JVM, shared by every test class so the cached application context stays valid
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @MockitoBean
+    protected DoctorServiceClient doctorServiceClient;
+
+    @MockitoBean
+    protected PatientServiceClient patientServiceClient;
+}
@@ -0,0 +1,98 @@
+package com.healthcare.appointment.admission;
+
+import com.healthcare.appointment.dto.WaitingRoomTicketDTO;
+import com.healthcare.appointment.enums.WaitingRoomStatus;
+import com.healthcare.appointment.exception.WaitingRoomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingWaitingRoomTest {
+
+    private static final int DOCTOR = 7;
+
+    private final BookingWaitingRoom waitingRoom =
+            new BookingWaitingRoom(new SimpleMeterRegistry(), true, 16, 2_000, 1, 100, 120, 30, 30);
+
+    @Test
+    void concurrentBookingsWithOneAdmissionBookOnce() throws Exception {
+        UUID token = admit();
+        AtomicInteger booked = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return waitingRoom.book(DOCTOR, token, () -> {
+                        sleep(50);
+                        return booked.incrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(WaitingRoomException.class);
+                    rejected++;
+                }
+            }
+            assertThat(booked).hasValue(1);
+            assertThat(rejected).isEqualTo(7);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedBookingReleasesTheAdmissionForARetry() {
+        UUID token = admit();
+
+        assertThatThrownBy(() -> waitingRoom.book(DOCTOR, token, () -> {
+            throw new IllegalStateException("slot taken");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(waitingRoom.book(DOCTOR, token, () -> "booked")).isEqualTo("booked");
+        assertThatThrownBy(() -> waitingRoom.book(DOCTOR, token, () -> "again"))
+                .isInstanceOf(WaitingRoomException.class);
+    }
+
+    @Test
+    void admissionOfAnotherDoctorIsRejected() {
+        UUID token = admit();
+
+        assertThatThrownBy(() -> waitingRoom.book(DOCTOR + 1, token, () -> "booked"))
+                .isInstanceOf(WaitingRoomException.class);
+    }
+
+    private UUID admit() {
+        WaitingRoomTicketDTO ticket = waitingRoom.join(DOCTOR);
+        assertThat(ticket.getStatus()).isEqualTo(WaitingRoomStatus.ADMITTED);
+        return ticket.getToken();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
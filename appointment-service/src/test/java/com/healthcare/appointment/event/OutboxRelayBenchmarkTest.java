@@ -0,0 +1,123 @@
+package com.healthcare.appointment.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.appointment.PostgresIntegrationTest;
+import com.healthcare.appointment.entity.OutboxEvent;
+import com.healthcare.appointment.enums.AppointmentStatus;
+import com.healthcare.appointment.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Relays a filled outbox through an embedded broker and reports events/s and send latency, then reads
+ * the topic back to check that every appointment's events arrived in the order they were written.
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 6, topics = "appointments-events", bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class OutboxRelayBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final String TOPIC = "appointments-events";
+    private static final int APPOINTMENTS = 2_000;
+    private static final int EVENTS_PER_APPOINTMENT = 10;
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2026, 1, 5, 8, 0);
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Test
+    void relaysTheOutboxInWriteOrderPerAppointment() throws Exception {
+        int events = APPOINTMENTS * EVENTS_PER_APPOINTMENT;
+        fillOutbox();
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MINUTES.toNanos(2);
+        while (outboxEventRepository.countBySentAtIsNullAndFailedAtIsNull() > 0 && System.nanoTime() < deadline) {
+            outboxRelay.relay();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        assertThat(outboxEventRepository.countBySentAtIsNullAndFailedAtIsNull()).isZero();
+        Timer sends = meterRegistry.get("appointment.outbox.send").tag("outcome", "success").timer();
+        System.out.printf("%,d outbox events relayed in %.2f s: %,.0f events/s, mean send %.1f ms, max send %.1f ms%n",
+                events, seconds, events / seconds, sends.mean(TimeUnit.MILLISECONDS), sends.max(TimeUnit.MILLISECONDS));
+
+        Map<String, List<LocalDateTime>> received = readBack(events);
+        assertThat(received).hasSize(APPOINTMENTS);
+        received.forEach((key, dates) -> assertThat(dates).as("events of %s", key).hasSize(EVENTS_PER_APPOINTMENT).isSorted());
+    }
+
+    /**
+     * Writes the events interleaved across appointments, the way concurrent requests would, with each
+     * appointment's events carrying increasing dates so their order can be checked on the topic.
+     */
+    private void fillOutbox() throws Exception {
+        List<OutboxEvent> outbox = new ArrayList<>(APPOINTMENTS * EVENTS_PER_APPOINTMENT);
+        for (int step = 0; step < EVENTS_PER_APPOINTMENT; step++) {
+            for (int appointment = 0; appointment < APPOINTMENTS; appointment++) {
+                AppointmentEvent event = new AppointmentEvent();
+                event.setId(appointment);
+                event.setPatientId(appointment);
+                event.setDoctorId(appointment % 50);
+                event.setAppointmentDate(FIRST_DATE.plusMinutes(step));
+                event.setDurationMinutes(30);
+                event.setStatus(AppointmentStatus.PENDING);
+                event.setType("UPDATED");
+                outbox.add(new OutboxEvent("bench-" + appointment, event.getType(), objectMapper.writeValueAsString(event)));
+            }
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxEventRepository.saveAll(outbox));
+    }
+
+    private Map<String, List<LocalDateTime>> readBack(int events) throws Exception {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("outbox-benchmark", "false", broker);
+        Map<String, List<LocalDateTime>> received = new HashMap<>();
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            for (ConsumerRecord<String, String> record : KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(30), events)) {
+                if (record.key() != null && record.key().startsWith("bench-")) {
+                    AppointmentEvent event = objectMapper.readValue(record.value(), AppointmentEvent.class);
+                    received.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(event.getAppointmentDate());
+                }
+            }
+        }
+        return received;
+    }
+}
@@ -0,0 +1,132 @@
+package com.healthcare.appointment.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    void valueExpiresOnceTheTickOfItsDeadlineIsReached() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, new int[] {8}, 0);
+        wheel.schedule("a", "reminder", 2_500);
+
+        assertThat(wheel.advance(1_999)).isEmpty();
+        assertThat(wheel.advance(2_000)).containsExactly("reminder");
+        assertThat(wheel.advance(10_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineExpiresOnTheNextAdvance() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, new int[] {8}, 5_000);
+        wheel.schedule("a", "late", 1_000);
+
+        assertThat(wheel.advance(5_000)).containsExactly("late");
+    }
+
+    @Test
+    void deadlineInAnUpperLevelCascadesDownAndExpiresOnTime() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, new int[] {4, 4}, 0);
+        wheel.schedule("a", "nine", 9_000);
+        wheel.schedule("b", "eight", 8_000);
+
+        assertThat(wheel.advance(7_999)).isEmpty();
+        assertThat(wheel.advance(8_000)).containsExactly("eight");
+        assertThat(wheel.advance(8_999)).isEmpty();
+        assertThat(wheel.advance(9_000)).containsExactly("nine");
+    }
+
+    @Test
+    void deadlineBeyondTheTopLevelWaitsAndIsPlacedAgain() {
+        // two levels of 4 slots span 16 ticks
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, new int[] {4, 4}, 0);
+        wheel.schedule("a", "far", 100_000);
+
+        assertThat(wheel.advance(99_999)).isEmpty();
+        assertThat(wheel.advance(100_000)).containsExactly("far");
+    }
+
+    @Test
+    void schedulingAKeyAgainReplacesItsEntry() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, new int[] {8, 8}, 0);
+        wheel.schedule("a", "first", 3_000);
+        wheel.schedule("a", "second", 20_000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(19_999)).isEmpty();
+        assertThat(wheel.advance(20_000)).containsExactly("second");
+    }
+
+    @Test
+    void cancelledEntryNeverExpires() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, new int[] {8, 8}, 0);
+        wheel.schedule("a", "cancelled", 30_000);
+
+        assertThat(wheel.cancel("a")).isTrue();
+        assertThat(wheel.cancel("a")).isFalse();
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(100_000)).isEmpty();
+    }
+
+    @Test
+    void rejectsANonPositiveTickOrNoLevels() {
+        assertThatThrownBy(() -> new TimingWheel<>(0, new int[] {8}, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<>(TICK, new int[0], 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Schedules, replaces and cancels at random while advancing by random steps, and checks every value
+     * expires in the first advance that reaches its deadline tick and never earlier.
+     */
+    @Test
+    void matchesAReferenceModelUnderRandomOperations() {
+        Random random = new Random(42);
+        long now = 1_234_567;
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(TICK, new int[] {16, 8, 4}, now);
+        Map<Integer, Integer> values = new HashMap<>();
+        Map<Integer, Long> deadlines = new HashMap<>();
+        int nextValue = 0;
+
+        for (int step = 0; step < 5_000; step++) {
+            int key = random.nextInt(200);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    // mostly within the wheel's 512-tick span, some beyond it and some already past
+                    long deadline = now + random.nextLong(-5 * TICK, 700 * TICK);
+                    wheel.schedule(key, nextValue, deadline);
+                    values.put(key, nextValue++);
+                    deadlines.put(key, deadline);
+                }
+                case 2 -> {
+                    boolean held = deadlines.remove(key) != null;
+                    values.remove(key);
+                    assertThat(wheel.cancel(key)).isEqualTo(held);
+                }
+                default -> {
+                    now += random.nextLong(0, 20 * TICK);
+                    long nowTick = Math.floorDiv(now, TICK);
+                    List<Integer> expected = new ArrayList<>();
+                    deadlines.entrySet().removeIf(entry -> {
+                        boolean due = Math.floorDiv(entry.getValue(), TICK) <= nowTick;
+                        if (due) {
+                            expected.add(values.remove(entry.getKey()));
+                        }
+                        return due;
+                    });
+                    assertThat(wheel.advance(now)).containsExactlyInAnyOrderElementsOf(expected);
+                }
+            }
+            assertThat(wheel.size()).isEqualTo(deadlines.size());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.healthcare.appointment.repository;
+
+import com.healthcare.appointment.PostgresIntegrationTest;
+import com.healthcare.appointment.dto.AppointmentFilter;
+import com.healthcare.appointment.enums.AppointmentStatus;
+import com.healthcare.common.test.QueryPlans;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Explains the SQL behind every repository query and fails if any of them has to scan the
+ * appointment, outbox or reminder tables sequentially, i.e. if a migration lost an index a query
+ * relies on. Plain findAll and findById are left out: one is a full scan by design and the other
+ * uses the primary key.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.healthcare.common.test.RecordingStatementInspector")
+class AppointmentQueryPlanTest extends PostgresIntegrationTest {
+
+    private static final String[] LARGE_TABLES = {"appointments", "appointment_outbox", "appointment_reminders"};
+    private static final LocalDateTime FROM = LocalDate.of(2026, 3, 2).atStartOfDay();
+    private static final LocalDateTime TO = FROM.plusDays(7);
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Runnable> queries = Map.ofEntries(
+                Map.entry("findAllBy by id", () -> appointmentRepository.findAllBy(
+                        ScrollPosition.forward(Map.of("id", 10)), Sort.by("id"), Limit.of(20))),
+                Map.entry("findAllBy by appointmentDate", () -> appointmentRepository.findAllBy(
+                        ScrollPosition.forward(Map.of("appointmentDate", FROM, "id", 10)),
+                        Sort.by("appointmentDate", "id"), Limit.of(20))),
+                Map.entry("findByPatientId", () -> appointmentRepository.findByPatientId(1)),
+                Map.entry("findByDoctorId", () -> appointmentRepository.findByDoctorId(1)),
+                Map.entry("findByStatus", () -> appointmentRepository.findByStatus(AppointmentStatus.PENDING)),
+                Map.entry("findByDateRange", () -> appointmentRepository.findByDateRange(FROM, TO)),
+                Map.entry("findByDoctorIdAndDateRange", () -> appointmentRepository.findByDoctorIdAndDateRange(1, FROM, TO)),
+                Map.entry("findByDoctorIdInAndDateRange", () -> appointmentRepository.findByDoctorIdInAndDateRange(List.of(1, 2, 3), FROM, TO)),
+                Map.entry("countByStatus", () -> appointmentRepository.countByStatus(FROM, TO)),
+                Map.entry("countByDoctor", () -> appointmentRepository.countByDoctor(FROM, TO)),
+                Map.entry("countByDay", () -> appointmentRepository.countByDay(FROM, TO)),
+                Map.entry("streamByDateRange", () -> {
+                    try (Stream<?> rows = appointmentRepository.streamByDateRange(FROM, TO)) {
+                        rows.forEach(row -> { });
+                    }
+                }),
+                Map.entry("existsOverlapping", () -> appointmentRepository.existsOverlapping(1, FROM, FROM.plusMinutes(30), 0)),
+                Map.entry("findOverlapping", () -> appointmentRepository.findOverlapping(1, FROM, TO)),
+                Map.entry("transitionStatus", () -> appointmentRepository.transitionStatus(List.of(1, 2),
+                        List.of("PENDING"), "CANCELLED", "bulk", FROM)),
+                Map.entry("expirePendingBefore", () -> appointmentRepository.expirePendingBefore(TO, FROM, 0, 100, TO)),
+                Map.entry("findFirstByStatusAndAppointmentDateBefore", () -> appointmentRepository
+                        .findFirstByStatusAndAppointmentDateBeforeOrderByAppointmentDateAsc(AppointmentStatus.PENDING, TO)),
+                Map.entry("claimReminder", () -> appointmentRepository.claimReminder(1, "HOUR_BEFORE", TO)),
+                Map.entry("deleteRemindersBefore", () -> appointmentRepository.deleteRemindersBefore(FROM)),
+                Map.entry("scrollFiltered by doctor", () -> appointmentRepository.scrollFiltered(
+                        AppointmentSpecifications.matching(new AppointmentFilter(null, 1, null, FROM.toLocalDate(), TO.toLocalDate())),
+                        ScrollPosition.keyset(), Sort.Direction.ASC, 20)),
+                Map.entry("scrollFiltered by patient", () -> appointmentRepository.scrollFiltered(
+                        AppointmentSpecifications.matching(new AppointmentFilter(1, null, null, null, null)),
+                        ScrollPosition.keyset(), Sort.Direction.ASC, 20)),
+                Map.entry("scrollFiltered by status", () -> appointmentRepository.scrollFiltered(
+                        AppointmentSpecifications.matching(new AppointmentFilter(null, null, Set.of(AppointmentStatus.PENDING), null, null)),
+                        ScrollPosition.keyset(), Sort.Direction.DESC, 20)),
+                Map.entry("lockPendingBatch", () -> outboxEventRepository.lockPendingBatch(200)),
+                Map.entry("markSent", () -> outboxEventRepository.markSent(List.of(1, 2), TO)),
+                Map.entry("deleteSentBefore", () -> outboxEventRepository.deleteSentBefore(FROM)),
+                Map.entry("countBySentAtIsNullAndFailedAtIsNull", () -> outboxEventRepository.countBySentAtIsNullAndFailedAtIsNull()),
+                Map.entry("findFirstBySentAtIsNullAndFailedAtIsNull", () -> outboxEventRepository.findFirstBySentAtIsNullAndFailedAtIsNullOrderByIdAsc()));
+
+        return queries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(query -> dynamicTest(query.getKey(),
+                        () -> QueryPlans.assertIndexed(transactionTemplate, jdbcTemplate, query.getValue(), LARGE_TABLES)));
+    }
+}
@@ -0,0 +1,184 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.PostgresIntegrationTest;
+import com.healthcare.appointment.dto.AppointmentDTO;
+import com.healthcare.appointment.entity.Appointment;
+import com.healthcare.appointment.exception.AppointmentConflictException;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Books from many threads at once to check that the per-doctor lock rejects every overlapping
+ * booking but one, and that it does not serialize bookings of different doctors.
+ */
+class AppointmentBookingConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int SLOTS_PER_DAY = 16;
+    private static final AtomicInteger DOCTOR_IDS = new AtomicInteger(100_000);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Test
+    void overlappingBookingsOfOneDoctorAdmitExactlyOne() throws Exception {
+        int doctorId = DOCTOR_IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(7).atTime(10, 0);
+
+        // every booking starts within 15 minutes of 10:00 and lasts 30, so each pair overlaps
+        List<Throwable> failures = runConcurrently(THREADS * 4,
+                i -> () -> appointmentService.createAppointment(booking(doctorId, i, start.plusMinutes(5L * (i % 4)))));
+
+        assertThat(failures).hasSize(THREADS * 4 - 1).allMatch(AppointmentConflictException.class::isInstance);
+        assertThat(bookedBy(doctorId)).hasSize(1);
+    }
+
+    @Test
+    void adjacentBookingsOfOneDoctorAreAllAccepted() throws Exception {
+        int doctorId = DOCTOR_IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(7).atTime(8, 0);
+
+        List<Throwable> failures = runConcurrently(SLOTS_PER_DAY,
+                i -> () -> appointmentService.createAppointment(booking(doctorId, i, start.plusMinutes(30L * i))));
+
+        assertThat(failures).isEmpty();
+        assertThat(bookedBy(doctorId)).hasSize(SLOTS_PER_DAY);
+    }
+
+    @Test
+    void rescheduleIntoATakenSlotIsRejected() throws Exception {
+        int doctorId = DOCTOR_IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(7).atTime(9, 0);
+        AppointmentDTO first = appointmentService.createAppointment(booking(doctorId, 1, start));
+        List<AppointmentDTO> others = new ArrayList<>();
+        for (int i = 1; i <= THREADS; i++) {
+            others.add(appointmentService.createAppointment(booking(doctorId, i + 1, start.plusMinutes(30L * i))));
+        }
+
+        // everyone tries to move into the first appointment's slot at once
+        List<Throwable> failures = runConcurrently(others.size(), i -> () -> {
+            AppointmentDTO moved = others.get(i);
+            moved.setAppointmentDate(first.getAppointmentDate().plusMinutes(15));
+            appointmentService.updateAppointment(moved.getId(), moved);
+        });
+
+        assertThat(failures).hasSize(others.size()).allMatch(AppointmentConflictException.class::isInstance);
+    }
+
+    @Test
+    void bulkBookingRejectsASlotInsideAnEarlierLongerOne() {
+        int doctorId = DOCTOR_IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(7).atTime(10, 0);
+        AppointmentDTO hour = booking(doctorId, 1, start);
+        hour.setDurationMinutes(60);
+        AppointmentDTO early = booking(doctorId, 2, start.plusMinutes(10));
+        early.setDurationMinutes(10);
+        AppointmentDTO late = booking(doctorId, 3, start.plusMinutes(30));
+        late.setDurationMinutes(10);
+
+        assertThatThrownBy(() -> appointmentService.createAppointments(List.of(hour, early, late)))
+                .isInstanceOf(AppointmentConflictException.class);
+        assertThatThrownBy(() -> appointmentService.createAppointments(List.of(hour, late)))
+                .isInstanceOf(AppointmentConflictException.class);
+        assertThat(bookedBy(doctorId)).isEmpty();
+    }
+
+    /**
+     * Books the same number of non-overlapping appointments spread over more and more doctors. With a
+     * lock per doctor the throughput should not drop as the number of doctors grows.
+     */
+    @Test
+    @Tag("benchmark")
+    void throughputStaysFlatAcrossDoctors() throws Exception {
+        int bookings = 4_000;
+        int[] doctorCounts = {THREADS, 128, 1_024};
+        double[] perSecond = new double[doctorCounts.length];
+        for (int round = 0; round < doctorCounts.length; round++) {
+            int doctors = doctorCounts[round];
+            int firstDoctor = DOCTOR_IDS.getAndAdd(doctors) + 1;
+            LocalDate firstDay = LocalDate.now().plusDays(1);
+
+            long started = System.nanoTime();
+            List<Throwable> failures = runConcurrently(bookings, i -> () -> {
+                int slot = i / doctors;
+                LocalDateTime start = firstDay.plusDays(slot / SLOTS_PER_DAY).atTime(8, 0)
+                        .plusMinutes(30L * (slot % SLOTS_PER_DAY));
+                appointmentService.createAppointment(booking(firstDoctor + i % doctors, i, start));
+            });
+            perSecond[round] = bookings / ((System.nanoTime() - started) / 1e9);
+
+            assertThat(failures).isEmpty();
+            System.out.printf("%,d bookings over %,d doctors: %,.0f bookings/s%n", bookings, doctors, perSecond[round]);
+        }
+
+        double slowest = Math.min(perSecond[0], Math.min(perSecond[1], perSecond[2]));
+        double fastest = Math.max(perSecond[0], Math.max(perSecond[1], perSecond[2]));
+        assertThat(slowest).isGreaterThan(fastest * 0.5);
+    }
+
+    private static AppointmentDTO booking(int doctorId, int patientId, LocalDateTime start) {
+        AppointmentDTO dto = new AppointmentDTO();
+        dto.setDoctorId(doctorId);
+        dto.setPatientId(patientId);
+        dto.setAppointmentDate(start);
+        dto.setDurationMinutes(30);
+        dto.setReason("Load test");
+        return dto;
+    }
+
+    private List<Appointment> bookedBy(int doctorId) {
+        return appointmentRepository.findByDoctorId(doctorId);
+    }
+
+    /**
+     * Runs {@code tasks} tasks on {@value #THREADS} threads, released together, and returns what they threw.
+     */
+    private static List<Throwable> runConcurrently(int tasks, IntFunction<Runnable> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                Runnable runnable = task.apply(i);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    runnable.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(2, TimeUnit.MINUTES);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -38,6 +38,13 @@ public class BillingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    @Operation(summary = "Create billings in bulk", description = "Creates up to 500 billings in one transaction")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BillingDTO>> createBillings(@Valid @RequestBody List<@Valid BillingDTO> billingDTOs) {
+        List<BillingDTO> created = billingService.createBillings(billingDTOs);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+    
     @Operation(summary = "Update billing", description = "Updates an existing billing")
     @PutMapping("/{id}")
     public ResponseEntity<BillingDTO> updateBilling(@PathVariable Integer id, @Valid @RequestBody BillingDTO billingDTO) {
@@ -11,13 +11,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class BillingService {
+    private static final int MAX_BULK_SIZE = 500;
+    
     private final BillingRepository billingRepository;
     
     public List<BillingDTO> getAllBillings() {
@@ -37,25 +42,36 @@ public class BillingService {
             throw new RuntimeException("Billing with invoice number already exists: " + billingDTO.getInvoiceNumber());
         }
         
-        Billing billing = toEntity(billingDTO);
-        if (billing.getStatus() == null) {
-            billing.setStatus(PaymentStatus.PENDING);
-        }
-        if (billing.getCurrency() == null) {
-            billing.setCurrency(CurrencyCode.USD);
-        }
-        if (billing.getTax() == null) {
-            billing.setTax(BigDecimal.ZERO);
+        Billing billing = applyDefaults(toEntity(billingDTO));
+        billing = billingRepository.save(billing);
+        return toDTO(billing);
+    }
+    
+    public List<BillingDTO> createBillings(List<BillingDTO> billingDTOs) {
+        if (billingDTOs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " billings can be created at once");
         }
-        if (billing.getDiscount() == null) {
-            billing.setDiscount(BigDecimal.ZERO);
+        Set<String> invoiceNumbers = new HashSet<>();
+        for (BillingDTO billingDTO : billingDTOs) {
+            String invoiceNumber = billingDTO.getInvoiceNumber();
+            if (invoiceNumber != null && !invoiceNumbers.add(invoiceNumber)) {
+                throw new IllegalArgumentException("Duplicate invoice number in request: " + invoiceNumber);
+            }
         }
-        if (billing.getTotalAmount() == null) {
-            billing.setTotalAmount(billing.getAmount().add(billing.getTax()).subtract(billing.getDiscount()));
+        if (!invoiceNumbers.isEmpty()) {
+            // one IN query for the whole batch instead of a lookup per invoice
+            List<Billing> existing = billingRepository.findByInvoiceNumberIn(invoiceNumbers);
+            if (!existing.isEmpty()) {
+                throw new RuntimeException("Billing with invoice number already exists: " + existing.get(0).getInvoiceNumber());
+            }
         }
         
-        billing = billingRepository.save(billing);
-        return toDTO(billing);
+        List<Billing> billings = billingDTOs.stream()
+                .map(dto -> applyDefaults(toEntity(dto)))
+                .collect(Collectors.toList());
+        return billingRepository.saveAll(billings).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
     }
     
     public BillingDTO updateBilling(Integer id, BillingDTO billingDTO) {
@@ -95,12 +111,39 @@ public class BillingService {
     }
     
     public List<BillingDTO> getBillingsByStatus(String status) {
-        return billingRepository.findByStatus(status)
+        return billingRepository.findByStatus(parseStatus(status))
                 .stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
     
+    private static PaymentStatus parseStatus(String status) {
+        try {
+            return PaymentStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown payment status: " + status);
+        }
+    }
+    
+    private Billing applyDefaults(Billing billing) {
+        if (billing.getStatus() == null) {
+            billing.setStatus(PaymentStatus.PENDING);
+        }
+        if (billing.getCurrency() == null) {
+            billing.setCurrency(CurrencyCode.USD);
+        }
+        if (billing.getTax() == null) {
+            billing.setTax(BigDecimal.ZERO);
+        }
+        if (billing.getDiscount() == null) {
+            billing.setDiscount(BigDecimal.ZERO);
+        }
+        if (billing.getTotalAmount() == null) {
+            billing.setTotalAmount(billing.getAmount().add(billing.getTax()).subtract(billing.getDiscount()));
+        }
+        return billing;
+    }
+    
     private BillingDTO toDTO(Billing billing) {
         BillingDTO dto = new BillingDTO();
         dto.setId(billing.getId());
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS billings (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    amount numeric(38, 2) NOT NULL,
+    billing_date timestamp(6) NOT NULL,
+    due_date timestamp(6),
+    paid_date timestamp(6),
+    invoice_number varchar(255) UNIQUE,
+    payment_method varchar(255),
+    status varchar(255),
+    currency varchar(255),
+    tax numeric(38, 2),
+    discount numeric(38, 2),
+    insurance_id integer,
+    patient_id integer NOT NULL,
+    total_amount numeric(38, 2) NOT NULL
+);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_billings_patient_status ON billings (patient_id, status);
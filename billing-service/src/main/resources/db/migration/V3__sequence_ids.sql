@@ -0,0 +1,6 @@
+-- Billing ids come from billing_seq in blocks of 50 so bulk invoice inserts can be batched.
+
+ALTER TABLE billings ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS billing_seq INCREMENT BY 50 OWNED BY billings.id;
+SELECT setval('billing_seq', COALESCE(MAX(id), 0) + 1, false) FROM billings;
+ALTER TABLE billings ALTER COLUMN id SET DEFAULT nextval('billing_seq');
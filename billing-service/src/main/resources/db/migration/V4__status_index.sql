@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_billings_status ON billings (status);
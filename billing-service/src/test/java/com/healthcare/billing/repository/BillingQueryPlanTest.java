@@ -0,0 +1,53 @@
+package com.healthcare.billing.repository;
+
+import com.healthcare.billing.PostgresIntegrationTest;
+import com.healthcare.billing.enums.PaymentStatus;
+import com.healthcare.common.test.QueryPlans;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Explains the SQL behind every repository query the service calls, plus the patient and status
+ * lookup the index set was built for, and fails if any of them has to scan the billings table
+ * sequentially, i.e. if a migration lost an index a query relies on.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.healthcare.common.test.RecordingStatementInspector")
+class BillingQueryPlanTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private BillingRepository billingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Runnable> queries = Map.of(
+                "findByInvoiceNumber", () -> billingRepository.findByInvoiceNumber("INV-1"),
+                "findByInvoiceNumberIn", () -> billingRepository.findByInvoiceNumberIn(List.of("INV-1", "INV-2")),
+                "findByPatientId", () -> billingRepository.findByPatientId(1),
+                "findByStatus", () -> billingRepository.findByStatus(PaymentStatus.PENDING),
+                "findByPatientIdAndStatus", () -> billingRepository.findByPatientIdAndStatus(1, PaymentStatus.PENDING));
+
+        return queries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(query -> dynamicTest(query.getKey(),
+                        () -> QueryPlans.assertIndexed(transactionTemplate, jdbcTemplate, query.getValue(), "billings")));
+    }
+}
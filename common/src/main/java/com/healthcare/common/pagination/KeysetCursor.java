@@ -0,0 +1,93 @@
+package com.healthcare.common.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes keyset scroll positions as opaque cursors. Only whitelisted, index-backed properties can be
+ * sorted on; {@code id} is always appended as a tie-breaker so the key is unique. A cursor records the
+ * sort it was issued for and carries a value for every sort property, so it is rejected when reused
+ * with another {@code sortBy} or direction instead of silently skipping or repeating rows.
+ */
+public final class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static Sort sort(String sortBy, String direction, Map<String, Function<String, Object>> sortable) {
+        if (!sortable.containsKey(sortBy)) {
+            throw new IllegalArgumentException("sortBy must be one of " + sortable.keySet());
+        }
+        Sort.Direction dir = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(dir, sortBy);
+        return "id".equals(sortBy) ? sort : sort.and(Sort.by(dir, "id"));
+    }
+
+    public static ScrollPosition decode(String cursor, Sort sort, Map<String, Function<String, Object>> sortable) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor is invalid");
+        }
+        if (!parts[0].equals(describe(sort))) {
+            throw new IllegalArgumentException("Cursor was issued for another sortBy or direction");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            int eq = parts[i].indexOf('=');
+            String property = eq > 0 ? parts[i].substring(0, eq) : null;
+            if (property == null || !sortable.containsKey(property)) {
+                throw new IllegalArgumentException("Cursor is invalid");
+            }
+            try {
+                keys.put(property, sortable.get(property).apply(parts[i].substring(eq + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor is invalid");
+            }
+        }
+        Set<String> properties = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        if (!keys.keySet().equals(properties)) {
+            throw new IllegalArgumentException("Cursor is invalid");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static <E, D> CursorPageDTO<D> toPage(Window<E> window, Function<E, D> mapper, Sort sort) {
+        List<D> content = window.stream().map(mapper).collect(Collectors.toList());
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = encode(position, sort);
+        }
+        return new CursorPageDTO<>(content, content.size(), nextCursor != null, nextCursor);
+    }
+
+    private static String encode(KeysetScrollPosition position, Sort sort) {
+        StringBuilder raw = new StringBuilder(describe(sort));
+        position.getKeys().forEach((property, value) -> raw.append(SEPARATOR).append(property).append('=').append(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // e.g. "appointmentDate:ASC,id:ASC"
+    private static String describe(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,122 @@
+package com.healthcare.common.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final Map<String, Function<String, Object>> SORTABLE = Map.of(
+            "id", Integer::valueOf,
+            "appointmentDate", LocalDateTime::parse);
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2026, 3, 2, 9, 30);
+
+    @Test
+    void sortAppendsIdAsTieBreaker() {
+        Sort sort = KeysetCursor.sort("appointmentDate", "desc", SORTABLE);
+
+        assertThat(sort).containsExactly(Sort.Order.desc("appointmentDate"), Sort.Order.desc("id"));
+        assertThat(KeysetCursor.sort("id", "asc", SORTABLE)).containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void sortRejectsPropertiesOutsideTheWhitelist() {
+        assertThatThrownBy(() -> KeysetCursor.sort("notes", "asc", SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nextCursorDecodesToTheLastRowOfThePage() {
+        Sort sort = KeysetCursor.sort("appointmentDate", "asc", SORTABLE);
+
+        CursorPageDTO<Integer> page = KeysetCursor.toPage(window(7, 8), Function.identity(), sort);
+        KeysetScrollPosition position = (KeysetScrollPosition) KeysetCursor.decode(page.getNextCursor(), sort, SORTABLE);
+
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getContent()).containsExactly(7, 8);
+        assertThat(position.getKeys()).containsExactly(Map.entry("appointmentDate", DATE.plusMinutes(8)), Map.entry("id", 8));
+    }
+
+    @Test
+    void missingCursorStartsAtTheBeginning() {
+        Sort sort = KeysetCursor.sort("id", "asc", SORTABLE);
+
+        assertThat(KeysetCursor.decode(null, sort, SORTABLE)).isEqualTo(ScrollPosition.keyset());
+        assertThat(KeysetCursor.decode(" ", sort, SORTABLE)).isEqualTo(ScrollPosition.keyset());
+    }
+
+    @Test
+    void cursorIsRejectedForAnotherDirection() {
+        Sort ascending = KeysetCursor.sort("appointmentDate", "asc", SORTABLE);
+        Sort descending = KeysetCursor.sort("appointmentDate", "desc", SORTABLE);
+        String cursor = KeysetCursor.toPage(window(1, 2), Function.identity(), ascending).getNextCursor();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, descending, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursorIsRejectedForAnotherSortProperty() {
+        Sort byDate = KeysetCursor.sort("appointmentDate", "asc", SORTABLE);
+        Sort byId = KeysetCursor.sort("id", "asc", SORTABLE);
+        String cursor = KeysetCursor.toPage(window(1, 2), Function.identity(), byDate).getNextCursor();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, byId, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursorWithoutEveryKeyIsRejected() {
+        Sort sort = KeysetCursor.sort("appointmentDate", "asc", SORTABLE);
+
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("appointmentDate:ASC,id:ASC|appointmentDate=" + DATE), sort, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("appointmentDate:ASC,id:ASC|id=4"), sort, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("appointmentDate:ASC,id:ASC"), sort, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        Sort sort = KeysetCursor.sort("id", "asc", SORTABLE);
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!", sort, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("id:ASC|id=abc"), sort, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("id:ASC|notes=1"), sort, SORTABLE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * A window over the given ids whose positions carry the appointment date and id of each row.
+     */
+    private static Window<Integer> window(Integer... ids) {
+        List<Integer> content = List.of(ids);
+        return Window.from(content, index -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("appointmentDate", DATE.plusMinutes(content.get(index)));
+            keys.put("id", content.get(index));
+            return ScrollPosition.forward(keys);
+        }, true);
+    }
+
+    private static String raw(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
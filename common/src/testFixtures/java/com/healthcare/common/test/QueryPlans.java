@@ -0,0 +1,76 @@
+package com.healthcare.common.test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that queries are served by indexes. The statements a repository call prepares are
+ * recorded by {@link RecordingStatementInspector} and explained as generic plans (Postgres 16+),
+ * which need no parameter values. Sequential scans are disabled while planning, so the planner
+ * only picks one when no index can answer the query, however small the test tables are.
+ */
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    /**
+     * Runs {@code call} in a transaction that is rolled back and returns the plans of the
+     * statements it prepared.
+     */
+    public static List<String> plansOf(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate, Runnable call) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            RecordingStatementInspector.clear();
+            call.run();
+            List<String> plans = new ArrayList<>();
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            for (String sql : RecordingStatementInspector.drain()) {
+                List<String> lines = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + positional(sql), String.class);
+                plans.add(sql + "\n" + String.join("\n", lines));
+            }
+            return plans;
+        });
+    }
+
+    /**
+     * Asserts that {@code call} prepared at least one statement and that none of them scans any
+     * of {@code tables} sequentially.
+     */
+    public static void assertIndexed(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate,
+                                     Runnable call, String... tables) {
+        List<String> plans = plansOf(transactionTemplate, jdbcTemplate, call);
+        assertThat(plans).as("statements prepared").isNotEmpty();
+        for (String table : tables) {
+            Pattern seqScan = Pattern.compile("Seq Scan on " + table + "\\b");
+            assertThat(plans).noneMatch(plan -> seqScan.matcher(plan).find());
+        }
+    }
+
+    /**
+     * Replaces JDBC {@code ?} placeholders outside of string literals with {@code $n}, which is what
+     * {@code EXPLAIN (GENERIC_PLAN)} expects.
+     */
+    static String positional(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        boolean quoted = false;
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                out.append('$').append(++index);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.healthcare.common.test;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records every SQL statement Hibernate prepares, so tests can inspect the SQL behind repository
+ * methods. Enable it with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector=com.healthcare.common.test.RecordingStatementInspector}.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+    private static final ConcurrentLinkedQueue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Statements recorded since the last call, in the order they were prepared.
+     */
+    public static List<String> drain() {
+        List<String> drained = new ArrayList<>();
+        for (String sql; (sql = STATEMENTS.poll()) != null; ) {
+            drained.add(sql);
+        }
+        return drained;
+    }
+}
@@ -1,5 +1,6 @@
 package com.healthcare.doctor.controller;
 
+import com.healthcare.common.pagination.CursorPageDTO;
 import com.healthcare.doctor.dto.DoctorDTO;
 import com.healthcare.doctor.service.DoctorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +38,16 @@ public class DoctorController {
         return ResponseEntity.ok(doctorService.getDoctorsPaged(page, size, sortBy, direction));
     }
     
+    @Operation(summary = "Get doctors (cursor)", description = "Retrieves doctors using keyset pagination; pass nextCursor from the previous response to continue")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<DoctorDTO>> getDoctorsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(doctorService.getDoctorsByCursor(cursor, size, sortBy, direction));
+    }
+    
     @Operation(summary = "Get doctor by ID", description = "Retrieves a specific doctor by their ID")
     @GetMapping("/{id}")
     public ResponseEntity<DoctorDTO> getDoctorById(
@@ -45,6 +56,12 @@ public class DoctorController {
         return ResponseEntity.ok(doctorService.getDoctorById(id, includeInactive));
     }
     
+    @Operation(summary = "Get doctors by IDs", description = "Retrieves active doctors for a list of IDs in a single lookup")
+    @GetMapping("/batch")
+    public ResponseEntity<List<DoctorDTO>> getDoctorsByIds(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(doctorService.getDoctorsByIds(ids));
+    }
+    
     @Operation(summary = "Get doctor by email", description = "Retrieves a specific doctor by their email")
     @GetMapping("/email/{email}")
     public ResponseEntity<DoctorDTO> getDoctorByEmail(
@@ -0,0 +1,76 @@
+package com.healthcare.doctor.controller;
+
+import com.healthcare.doctor.dto.DoctorScheduleDTO;
+import com.healthcare.doctor.dto.DoctorScheduleExceptionDTO;
+import com.healthcare.doctor.dto.DoctorShiftDTO;
+import com.healthcare.doctor.service.DoctorScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/doctors")
+@Tag(name = "Doctor Schedules", description = "APIs for managing doctor shifts, schedule exceptions and holidays")
+@RequiredArgsConstructor
+public class DoctorScheduleController {
+    private final DoctorScheduleService doctorScheduleService;
+    
+    @Operation(summary = "Get doctor schedule", description = "Retrieves the weekly shifts and the exceptions and holidays ending on or after 'from' (default today)")
+    @GetMapping("/{id}/schedule")
+    public ResponseEntity<DoctorScheduleDTO> getSchedule(
+            @PathVariable Integer id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        return ResponseEntity.ok(doctorScheduleService.getSchedule(id, from != null ? from : LocalDate.now()));
+    }
+    
+    @Operation(summary = "Replace weekly shifts", description = "Replaces the weekly shifts of a doctor; an empty list falls back to the doctor's working days and hours")
+    @PutMapping("/{id}/schedule/shifts")
+    public ResponseEntity<DoctorScheduleDTO> replaceShifts(
+            @PathVariable Integer id,
+            @Valid @RequestBody List<@Valid DoctorShiftDTO> shifts) {
+        return ResponseEntity.ok(doctorScheduleService.replaceShifts(id, shifts));
+    }
+    
+    @Operation(summary = "Add schedule exception", description = "Adds a day off, partial absence or custom hours for a date range")
+    @PostMapping("/{id}/schedule/exceptions")
+    public ResponseEntity<DoctorScheduleExceptionDTO> addException(
+            @PathVariable Integer id,
+            @Valid @RequestBody DoctorScheduleExceptionDTO exceptionDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(doctorScheduleService.addException(id, exceptionDTO));
+    }
+    
+    @Operation(summary = "Delete schedule exception", description = "Deletes a schedule exception of a doctor")
+    @DeleteMapping("/{id}/schedule/exceptions/{exceptionId}")
+    public ResponseEntity<Void> deleteException(@PathVariable Integer id, @PathVariable Integer exceptionId) {
+        doctorScheduleService.deleteException(id, exceptionId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @Operation(summary = "Get holidays", description = "Retrieves clinic-wide holidays ending on or after 'from' (default today)")
+    @GetMapping("/schedule/holidays")
+    public ResponseEntity<List<DoctorScheduleExceptionDTO>> getHolidays(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        return ResponseEntity.ok(doctorScheduleService.getHolidays(from != null ? from : LocalDate.now()));
+    }
+    
+    @Operation(summary = "Add holiday", description = "Adds a clinic-wide holiday that applies to every doctor")
+    @PostMapping("/schedule/holidays")
+    public ResponseEntity<DoctorScheduleExceptionDTO> addHoliday(@Valid @RequestBody DoctorScheduleExceptionDTO holidayDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(doctorScheduleService.addHoliday(holidayDTO));
+    }
+    
+    @Operation(summary = "Delete holiday", description = "Deletes a clinic-wide holiday")
+    @DeleteMapping("/schedule/holidays/{holidayId}")
+    public ResponseEntity<Void> deleteHoliday(@PathVariable Integer holidayId) {
+        doctorScheduleService.deleteHoliday(holidayId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.healthcare.doctor.dto;
+
+import com.healthcare.doctor.enums.ScheduleExceptionType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorScheduleExceptionDTO {
+    private Integer id;
+    
+    private Integer doctorId;
+    
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+    
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+    
+    @NotNull(message = "Exception type is required")
+    private ScheduleExceptionType type;
+    
+    private LocalTime startTime;
+    
+    private LocalTime endTime;
+    
+    private String reason;
+}
@@ -0,0 +1,47 @@
+package com.healthcare.doctor.entity;
+
+import com.healthcare.doctor.enums.ScheduleExceptionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A dated deviation from the weekly shifts. {@code DAY_OFF} removes the whole day, or only
+ * {@code [startTime, endTime)} when times are given; {@code CUSTOM_HOURS} replaces the regular
+ * shifts on those dates. Rows without a doctor are clinic-wide holidays.
+ */
+@Entity
+@Table(name = "doctor_schedule_exceptions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorScheduleException extends BaseAuditableEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "doctor_id")
+    private Doctor doctor;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ScheduleExceptionType type;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    private String reason;
+}
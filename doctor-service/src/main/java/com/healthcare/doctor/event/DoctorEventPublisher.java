@@ -0,0 +1,240 @@
+package com.healthcare.doctor.event;
+
+import com.healthcare.doctor.entity.Doctor;
+import com.healthcare.doctor.repository.DoctorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Publishes the full current state of a doctor to a compacted topic keyed by doctor id, so the
+ * latest record per doctor is always retained and consumers can rebuild a replica from it.
+ * Events are snapshotted inside the transaction and sent only after it commits.
+ * <p>
+ * Each event carries a version drawn from a database sequence while the doctor row is locked, so
+ * versions follow commit order even though the after-commit sends of two transactions may run in
+ * either order. Checking a version against the newest one sent for its key and handing the event to
+ * the producer happen together under a per-key lock, so this instance never writes an older state
+ * after a newer one and a key's records keep their order within its partition. That does not extend
+ * to other replicas: two of them publishing the same doctor at once can still leave the older state
+ * at the higher offset, which is the one compaction keeps.
+ * <p>
+ * Sends that fail, e.g. while the broker is unavailable, wait in a bounded in-memory buffer and are
+ * retried on a fixed interval. The buffer holds at most one event per key and only the newest one,
+ * so a retry can never overwrite a later state in the compacted topic.
+ */
+@Component
+public class DoctorEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(DoctorEventPublisher.class);
+    private static final String HOLIDAYS_KEY = "holidays";
+
+    private final KafkaTemplate<String, DoctorEvent> kafkaTemplate;
+    private final DoctorRepository doctorRepository;
+    private final String topic;
+    private final int retryCapacity;
+    private final ConcurrentMap<String, Long> latestVersion = new ConcurrentHashMap<>();
+    private final Map<String, Pending> retryBuffer = new LinkedHashMap<>();
+    private final Object[] keyLocks = new Object[64];
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Counter staleCounter;
+
+    public DoctorEventPublisher(KafkaTemplate<String, DoctorEvent> kafkaTemplate,
+                                DoctorRepository doctorRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.kafka.topics.doctors:doctors-events}") String topic,
+                                @Value("${app.kafka.retry.capacity:10000}") int retryCapacity) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.doctorRepository = doctorRepository;
+        this.topic = topic;
+        this.retryCapacity = retryCapacity;
+        this.sendTimer = Timer.builder("doctor.events.send")
+                .description("Time from send until the broker acknowledged the doctor event")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("doctor.events.published", "outcome", "success");
+        this.failedCounter = meterRegistry.counter("doctor.events.published", "outcome", "failure");
+        this.droppedCounter = meterRegistry.counter("doctor.events.published", "outcome", "dropped");
+        this.staleCounter = meterRegistry.counter("doctor.events.published", "outcome", "stale");
+        Gauge.builder("doctor.events.retry.buffer", this, DoctorEventPublisher::retryBufferSize).register(meterRegistry);
+        for (int i = 0; i < keyLocks.length; i++) {
+            keyLocks[i] = new Object();
+        }
+    }
+
+    public void publishCreated(Doctor doctor) {
+        publish(doctor, "CREATED");
+    }
+
+    public void publishUpdated(Doctor doctor) {
+        publish(doctor, "UPDATED");
+    }
+
+    public void publishStatusChanged(Doctor doctor) {
+        publish(doctor, Boolean.FALSE.equals(doctor.getActive()) ? "DEACTIVATED" : "ACTIVATED");
+    }
+
+    public void publishScheduleChanged(Doctor doctor) {
+        publish(doctor, "SCHEDULE_CHANGED");
+    }
+
+    /**
+     * Signals a change to clinic-wide holidays. The event carries no doctor and uses a fixed key,
+     * so compaction keeps only the latest one.
+     */
+    public void publishHolidaysChanged() {
+        DoctorEvent event = new DoctorEvent();
+        event.setType("HOLIDAYS_CHANGED");
+        event.setVersion(doctorRepository.nextEventVersion());
+        sendAfterCommit(HOLIDAYS_KEY, event);
+    }
+
+    private void publish(Doctor doctor, String type) {
+        if (doctor == null || doctor.getId() == null) {
+            return;
+        }
+        DoctorEvent event = new DoctorEvent();
+        event.setId(doctor.getId());
+        event.setName(doctor.getName());
+        event.setSurname(doctor.getSurname());
+        if (doctor.getSpecialization() != null) {
+            event.setSpecializationName(doctor.getSpecialization().getName());
+        }
+        if (doctor.getDepartment() != null) {
+            event.setDepartmentName(doctor.getDepartment().getName());
+        }
+        event.setWorkingHoursStart(doctor.getWorkingHoursStart());
+        event.setWorkingHoursEnd(doctor.getWorkingHoursEnd());
+        event.setWorkingDays(doctor.getWorkingDays());
+        event.setActive(!Boolean.FALSE.equals(doctor.getActive()));
+        event.setType(type);
+        event.setVersion(doctorRepository.nextEventVersion(doctor.getId()));
+        sendAfterCommit(doctor.getId().toString(), event);
+    }
+
+    private void sendAfterCommit(String key, DoctorEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(key, event);
+                }
+            });
+        } else {
+            send(key, event);
+        }
+    }
+
+    private void send(String key, DoctorEvent event) {
+        synchronized (lockFor(key)) {
+            if (latestVersion.merge(key, event.getVersion(), Math::max) > event.getVersion()) {
+                // a transaction that committed later already sent its newer state
+                staleCounter.increment();
+                return;
+            }
+            synchronized (retryBuffer) {
+                // the new state supersedes whatever older state is waiting for a retry
+                retryBuffer.remove(key);
+            }
+            send(new Pending(key, event));
+        }
+    }
+
+    private void send(Pending pending) {
+        Timer.Sample sample = Timer.start();
+        try {
+            kafkaTemplate.send(topic, pending.key(), pending.event())
+                    .whenComplete((result, ex) -> {
+                        sample.stop(sendTimer);
+                        if (ex == null) {
+                            sentCounter.increment();
+                        } else {
+                            onFailure(pending, ex);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            onFailure(pending, e);
+        }
+    }
+
+    private void onFailure(Pending pending, Throwable ex) {
+        failedCounter.increment();
+        log.warn("Failed to publish doctor event type={} key={}, will retry: {}",
+                pending.event().getType(), pending.key(), ex.getMessage());
+        bufferForRetry(pending);
+    }
+
+    /**
+     * Resends buffered events. An event that fails again goes back into the buffer unless a newer
+     * event for the same key was published in the meantime.
+     */
+    @Scheduled(fixedDelayString = "${app.kafka.retry.interval-ms:5000}")
+    public void retryFailed() {
+        List<Pending> due;
+        synchronized (retryBuffer) {
+            if (retryBuffer.isEmpty()) {
+                return;
+            }
+            due = new ArrayList<>(retryBuffer.values());
+            retryBuffer.clear();
+        }
+        for (Pending pending : due) {
+            synchronized (lockFor(pending.key())) {
+                if (isLatest(pending)) {
+                    send(pending);
+                }
+            }
+        }
+    }
+
+    private void bufferForRetry(Pending pending) {
+        if (!isLatest(pending)) {
+            return;
+        }
+        synchronized (retryBuffer) {
+            if (retryBuffer.size() >= retryCapacity && !retryBuffer.containsKey(pending.key())) {
+                droppedCounter.increment();
+                log.error("Doctor event retry buffer is full, dropping event type={} key={}",
+                        pending.event().getType(), pending.key());
+                return;
+            }
+            retryBuffer.put(pending.key(), pending);
+        }
+    }
+
+    private Object lockFor(String key) {
+        return keyLocks[Math.floorMod(key.hashCode(), keyLocks.length)];
+    }
+
+    private boolean isLatest(Pending pending) {
+        return latestVersion.getOrDefault(pending.key(), 0L).equals(pending.event().getVersion());
+    }
+
+    private int retryBufferSize() {
+        synchronized (retryBuffer) {
+            return retryBuffer.size();
+        }
+    }
+
+    private record Pending(String key, DoctorEvent event) {
+    }
+}
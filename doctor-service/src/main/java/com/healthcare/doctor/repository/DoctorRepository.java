@@ -2,8 +2,12 @@ package com.healthcare.doctor.repository;
 
 import com.healthcare.doctor.entity.Doctor;
 import com.healthcare.doctor.entity.Specialization;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,7 +34,23 @@ public interface DoctorRepository extends JpaRepository<Doctor, Integer> {
     
     Page<Doctor> findByActiveTrue(Pageable pageable);
     
+    Window<Doctor> findByActiveTrue(ScrollPosition position, Sort sort, Limit limit);
+    
     @Query("SELECT d FROM Doctor d WHERE d.dutyStatus = :dutyStatus")
     List<Doctor> findByDutyStatus(@Param("dutyStatus") String dutyStatus);
+    
+    /**
+     * Stamps the doctor with the next event version and returns it. The update keeps the row locked
+     * until the transaction ends, so versions follow the commit order of changes to one doctor.
+     */
+    @Query(value = "UPDATE doctors SET event_version = nextval('doctor_event_version_seq') WHERE id = :id RETURNING event_version",
+           nativeQuery = true)
+    Long nextEventVersion(@Param("id") Integer id);
+    
+    /**
+     * Next event version for events that are not about one doctor.
+     */
+    @Query(value = "SELECT nextval('doctor_event_version_seq')", nativeQuery = true)
+    Long nextEventVersion();
 }
 
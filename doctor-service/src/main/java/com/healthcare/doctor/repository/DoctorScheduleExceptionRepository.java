@@ -0,0 +1,24 @@
+package com.healthcare.doctor.repository;
+
+import com.healthcare.doctor.entity.DoctorScheduleException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DoctorScheduleExceptionRepository extends JpaRepository<DoctorScheduleException, Integer> {
+    @Query("SELECT e FROM DoctorScheduleException e WHERE (e.doctor.id = :doctorId OR e.doctor IS NULL) " +
+           "AND e.endDate >= :from ORDER BY e.startDate, e.id")
+    List<DoctorScheduleException> findEffectiveForDoctor(@Param("doctorId") Integer doctorId, @Param("from") LocalDate from);
+
+    List<DoctorScheduleException> findByDoctorIsNullAndEndDateGreaterThanEqualOrderByStartDate(LocalDate from);
+
+    Optional<DoctorScheduleException> findByIdAndDoctorId(Integer id, Integer doctorId);
+
+    Optional<DoctorScheduleException> findByIdAndDoctorIsNull(Integer id);
+}
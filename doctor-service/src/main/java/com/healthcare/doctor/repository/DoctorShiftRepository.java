@@ -0,0 +1,19 @@
+package com.healthcare.doctor.repository;
+
+import com.healthcare.doctor.entity.DoctorShift;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DoctorShiftRepository extends JpaRepository<DoctorShift, Integer> {
+    List<DoctorShift> findByDoctorId(Integer doctorId);
+
+    @Modifying
+    @Query("DELETE FROM DoctorShift s WHERE s.doctor.id = :doctorId")
+    void deleteByDoctorId(@Param("doctorId") Integer doctorId);
+}
@@ -0,0 +1,241 @@
+package com.healthcare.doctor.service;
+
+import com.healthcare.doctor.dto.DoctorScheduleDTO;
+import com.healthcare.doctor.dto.DoctorScheduleExceptionDTO;
+import com.healthcare.doctor.dto.DoctorShiftDTO;
+import com.healthcare.doctor.entity.Doctor;
+import com.healthcare.doctor.entity.DoctorScheduleException;
+import com.healthcare.doctor.entity.DoctorShift;
+import com.healthcare.doctor.enums.ScheduleExceptionType;
+import com.healthcare.doctor.event.DoctorEventPublisher;
+import com.healthcare.doctor.repository.DoctorRepository;
+import com.healthcare.doctor.repository.DoctorScheduleExceptionRepository;
+import com.healthcare.doctor.repository.DoctorShiftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the structured working schedule of doctors: weekly shifts plus dated exceptions and
+ * clinic-wide holidays. Doctors without explicit shifts are described by their legacy
+ * working days and hours, so every doctor always has a complete schedule.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DoctorScheduleService {
+    private static final int MAX_EXCEPTION_DAYS = 366;
+    private static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DEFAULT_DAY_END = LocalTime.of(17, 0);
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+    private static final Comparator<DoctorShiftDTO> SHIFT_ORDER = Comparator
+            .comparing(DoctorShiftDTO::getDayOfWeek)
+            .thenComparing(DoctorShiftDTO::getStartTime);
+
+    private final DoctorRepository doctorRepository;
+    private final DoctorShiftRepository doctorShiftRepository;
+    private final DoctorScheduleExceptionRepository doctorScheduleExceptionRepository;
+    private final DoctorEventPublisher doctorEventPublisher;
+    
+    @Transactional(readOnly = true)
+    public DoctorScheduleDTO getSchedule(Integer doctorId, LocalDate from) {
+        Doctor doctor = findDoctor(doctorId);
+        List<DoctorShiftDTO> shifts = doctorShiftRepository.findByDoctorId(doctorId).stream()
+                .map(this::toDTO)
+                .sorted(SHIFT_ORDER)
+                .collect(Collectors.toList());
+        if (shifts.isEmpty()) {
+            shifts = legacyShifts(doctor);
+        }
+        List<DoctorScheduleExceptionDTO> exceptions = doctorScheduleExceptionRepository
+                .findEffectiveForDoctor(doctorId, from).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+        return new DoctorScheduleDTO(doctorId, shifts, exceptions);
+    }
+    
+    /**
+     * Replaces the weekly shifts of a doctor and mirrors them into the legacy working days/hours
+     * fields. An empty list removes the explicit shifts, so the legacy fields apply again.
+     */
+    @CacheEvict(cacheNames = "doctors", allEntries = true)
+    public DoctorScheduleDTO replaceShifts(Integer doctorId, List<DoctorShiftDTO> shifts) {
+        Doctor doctor = findDoctor(doctorId);
+        validateShifts(shifts);
+        
+        doctorShiftRepository.deleteByDoctorId(doctorId);
+        doctorShiftRepository.saveAll(shifts.stream()
+                .map(shift -> new DoctorShift(doctor, shift.getDayOfWeek(), shift.getStartTime(), shift.getEndTime()))
+                .collect(Collectors.toList()));
+        
+        if (!shifts.isEmpty()) {
+            doctor.setWorkingDays(shifts.stream()
+                    .map(DoctorShiftDTO::getDayOfWeek)
+                    .distinct()
+                    .sorted()
+                    .map(DayOfWeek::name)
+                    .collect(Collectors.joining(",")));
+            doctor.setWorkingHoursStart(shifts.stream().map(DoctorShiftDTO::getStartTime).min(Comparator.naturalOrder()).get());
+            doctor.setWorkingHoursEnd(shifts.stream().map(DoctorShiftDTO::getEndTime).max(Comparator.naturalOrder()).get());
+            doctorRepository.save(doctor);
+        }
+        doctorEventPublisher.publishScheduleChanged(doctor);
+        return getSchedule(doctorId, LocalDate.now());
+    }
+    
+    public DoctorScheduleExceptionDTO addException(Integer doctorId, DoctorScheduleExceptionDTO exceptionDTO) {
+        Doctor doctor = findDoctor(doctorId);
+        validateException(exceptionDTO);
+        DoctorScheduleException exception = doctorScheduleExceptionRepository.save(toEntity(exceptionDTO, doctor));
+        doctorEventPublisher.publishScheduleChanged(doctor);
+        return toDTO(exception);
+    }
+    
+    public void deleteException(Integer doctorId, Integer exceptionId) {
+        Doctor doctor = findDoctor(doctorId);
+        DoctorScheduleException exception = doctorScheduleExceptionRepository.findByIdAndDoctorId(exceptionId, doctorId)
+                .orElseThrow(() -> new RuntimeException("Schedule exception not found with id: " + exceptionId));
+        doctorScheduleExceptionRepository.delete(exception);
+        doctorEventPublisher.publishScheduleChanged(doctor);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<DoctorScheduleExceptionDTO> getHolidays(LocalDate from) {
+        return doctorScheduleExceptionRepository.findByDoctorIsNullAndEndDateGreaterThanEqualOrderByStartDate(from).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+    
+    public DoctorScheduleExceptionDTO addHoliday(DoctorScheduleExceptionDTO holidayDTO) {
+        validateException(holidayDTO);
+        DoctorScheduleException holiday = doctorScheduleExceptionRepository.save(toEntity(holidayDTO, null));
+        doctorEventPublisher.publishHolidaysChanged();
+        return toDTO(holiday);
+    }
+    
+    public void deleteHoliday(Integer holidayId) {
+        DoctorScheduleException holiday = doctorScheduleExceptionRepository.findByIdAndDoctorIsNull(holidayId)
+                .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + holidayId));
+        doctorScheduleExceptionRepository.delete(holiday);
+        doctorEventPublisher.publishHolidaysChanged();
+    }
+    
+    private Doctor findDoctor(Integer doctorId) {
+        return doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + doctorId));
+    }
+    
+    private void validateShifts(List<DoctorShiftDTO> shifts) {
+        List<DoctorShiftDTO> ordered = new ArrayList<>(shifts);
+        ordered.sort(SHIFT_ORDER);
+        // a long shift can reach past several shorter ones, so compare with the latest end on that day
+        DayOfWeek day = null;
+        LocalTime latestEnd = null;
+        for (DoctorShiftDTO shift : ordered) {
+            if (!shift.getStartTime().isBefore(shift.getEndTime())) {
+                throw new IllegalArgumentException("Shift on " + shift.getDayOfWeek() + " must start before it ends");
+            }
+            if (shift.getDayOfWeek() != day) {
+                day = shift.getDayOfWeek();
+                latestEnd = null;
+            }
+            if (latestEnd != null && shift.getStartTime().isBefore(latestEnd)) {
+                throw new IllegalArgumentException("Shifts on " + shift.getDayOfWeek() + " overlap");
+            }
+            if (latestEnd == null || shift.getEndTime().isAfter(latestEnd)) {
+                latestEnd = shift.getEndTime();
+            }
+        }
+    }
+    
+    private void validateException(DoctorScheduleExceptionDTO dto) {
+        if (dto.getEndDate().isBefore(dto.getStartDate())) {
+            throw new IllegalArgumentException("Exception end date cannot be before its start date");
+        }
+        if (ChronoUnit.DAYS.between(dto.getStartDate(), dto.getEndDate()) >= MAX_EXCEPTION_DAYS) {
+            throw new IllegalArgumentException("Exception cannot span more than " + MAX_EXCEPTION_DAYS + " days");
+        }
+        if ((dto.getStartTime() == null) != (dto.getEndTime() == null)) {
+            throw new IllegalArgumentException("Exception start and end time must be given together");
+        }
+        if (dto.getStartTime() != null && !dto.getStartTime().isBefore(dto.getEndTime())) {
+            throw new IllegalArgumentException("Exception start time must be before its end time");
+        }
+        if (dto.getType() == ScheduleExceptionType.CUSTOM_HOURS && dto.getStartTime() == null) {
+            throw new IllegalArgumentException("Custom hours require a start and end time");
+        }
+    }
+    
+    /**
+     * Derives weekly shifts from the legacy comma-separated working days (with the MON-FRI shorthand)
+     * and working hours. A blank value means every day.
+     */
+    private List<DoctorShiftDTO> legacyShifts(Doctor doctor) {
+        LocalTime start = doctor.getWorkingHoursStart() != null ? doctor.getWorkingHoursStart() : DEFAULT_DAY_START;
+        LocalTime end = doctor.getWorkingHoursEnd() != null ? doctor.getWorkingHoursEnd() : DEFAULT_DAY_END;
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        String workingDays = doctor.getWorkingDays();
+        if (workingDays == null || workingDays.isEmpty()) {
+            days = EnumSet.allOf(DayOfWeek.class);
+        } else {
+            for (String part : workingDays.split(",")) {
+                String trimmed = part.trim().toUpperCase();
+                if (trimmed.equals("MON-FRI") || trimmed.equals("MONDAY-FRIDAY")) {
+                    days.addAll(WEEKDAYS);
+                    continue;
+                }
+                try {
+                    days.add(DayOfWeek.valueOf(trimmed));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        }
+        return days.stream()
+                .map(day -> new DoctorShiftDTO(day, start, end))
+                .collect(Collectors.toList());
+    }
+    
+    private DoctorShiftDTO toDTO(DoctorShift shift) {
+        return new DoctorShiftDTO(shift.getDayOfWeek(), shift.getStartTime(), shift.getEndTime());
+    }
+    
+    private DoctorScheduleExceptionDTO toDTO(DoctorScheduleException exception) {
+        DoctorScheduleExceptionDTO dto = new DoctorScheduleExceptionDTO();
+        dto.setId(exception.getId());
+        dto.setDoctorId(exception.getDoctor() != null ? exception.getDoctor().getId() : null);
+        dto.setStartDate(exception.getStartDate());
+        dto.setEndDate(exception.getEndDate());
+        dto.setType(exception.getType());
+        dto.setStartTime(exception.getStartTime());
+        dto.setEndTime(exception.getEndTime());
+        dto.setReason(exception.getReason());
+        return dto;
+    }
+    
+    private DoctorScheduleException toEntity(DoctorScheduleExceptionDTO dto, Doctor doctor) {
+        DoctorScheduleException exception = new DoctorScheduleException();
+        exception.setDoctor(doctor);
+        exception.setStartDate(dto.getStartDate());
+        exception.setEndDate(dto.getEndDate());
+        exception.setType(dto.getType());
+        exception.setStartTime(dto.getStartTime());
+        exception.setEndTime(dto.getEndTime());
+        exception.setReason(dto.getReason());
+        return exception;
+    }
+}
@@ -1,9 +1,12 @@
 package com.healthcare.doctor.service;
 
+import com.healthcare.common.pagination.CursorPageDTO;
+import com.healthcare.common.pagination.KeysetCursor;
 import com.healthcare.doctor.dto.DoctorDTO;
 import com.healthcare.doctor.entity.Department;
 import com.healthcare.doctor.entity.Doctor;
 import com.healthcare.doctor.entity.Specialization;
+import com.healthcare.doctor.event.DoctorEventPublisher;
 import com.healthcare.doctor.repository.DepartmentRepository;
 import com.healthcare.doctor.repository.DoctorRepository;
 import com.healthcare.doctor.repository.SpecializationRepository;
@@ -11,14 +14,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +34,13 @@ import java.util.stream.Collectors;
 @Transactional
 @CacheConfig(cacheNames = "doctors")
 public class DoctorService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    private static final Map<String, Function<String, Object>> KEYSET_SORTABLE = Map.of("id", Integer::valueOf);
+
     private final DoctorRepository doctorRepository;
     private final SpecializationRepository specializationRepository;
     private final DepartmentRepository departmentRepository;
+    private final DoctorEventPublisher doctorEventPublisher;
     
     @Transactional(readOnly = true)
     @Cacheable(key = "'all'")
@@ -47,6 +59,16 @@ public class DoctorService {
         return doctorRepository.findByActiveTrue(pageable).map(this::toDTO);
     }
     
+    @Transactional(readOnly = true)
+    public CursorPageDTO<DoctorDTO> getDoctorsByCursor(String cursor, int size, String sortBy, String direction) {
+        Sort sort = KeysetCursor.sort(sortBy, direction, KEYSET_SORTABLE);
+        Window<Doctor> window = doctorRepository.findByActiveTrue(
+                KeysetCursor.decode(cursor, sort, KEYSET_SORTABLE),
+                sort,
+                Limit.of(Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE))));
+        return KeysetCursor.toPage(window, this::toDTO, sort);
+    }
+    
     @Transactional(readOnly = true)
     public DoctorDTO getDoctorById(Integer id) {
         return getDoctorById(id, false);
@@ -63,6 +85,17 @@ public class DoctorService {
         return toDTO(doctor);
     }
     
+    @Transactional(readOnly = true)
+    public List<DoctorDTO> getDoctorsByIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return doctorRepository.findAllById(new HashSet<>(ids)).stream()
+                .filter(doctor -> !Boolean.FALSE.equals(doctor.getActive()))
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+    
     @Transactional(readOnly = true)
     public DoctorDTO getDoctorByEmail(String email) {
         return getDoctorByEmail(email, false);
@@ -112,6 +145,7 @@ public class DoctorService {
         }
         
         doctor = doctorRepository.save(doctor);
+        doctorEventPublisher.publishCreated(doctor);
         return toDTO(doctor);
     }
     
@@ -148,6 +182,7 @@ public class DoctorService {
         doctor.setPhotoUrl(doctorDTO.getPhotoUrl());
         
         doctor = doctorRepository.save(doctor);
+        doctorEventPublisher.publishUpdated(doctor);
         return toDTO(doctor);
     }
     
@@ -157,6 +192,7 @@ public class DoctorService {
                 .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + id));
         doctor.setActive(false);
         doctorRepository.save(doctor);
+        doctorEventPublisher.publishStatusChanged(doctor);
     }
     
     @CacheEvict(allEntries = true)
@@ -165,6 +201,7 @@ public class DoctorService {
                 .orElseThrow(() -> new RuntimeException("Doctor not found with email: " + email));
         doctor.setActive(active);
         doctorRepository.save(doctor);
+        doctorEventPublisher.publishStatusChanged(doctor);
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,46 @@
+CREATE TABLE IF NOT EXISTS specializations (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    name varchar(255) NOT NULL UNIQUE,
+    description text,
+    active boolean
+);
+
+CREATE TABLE IF NOT EXISTS departments (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    name varchar(255) NOT NULL UNIQUE,
+    description text,
+    active boolean
+);
+
+CREATE TABLE IF NOT EXISTS doctors (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    name varchar(255),
+    surname varchar(255),
+    date_of_birth date,
+    gender varchar(255),
+    email varchar(255),
+    phone_number varchar(255),
+    license_number varchar(255) UNIQUE,
+    specialization_id integer NOT NULL REFERENCES specializations (id),
+    department_id integer REFERENCES departments (id),
+    duty_status varchar(255),
+    years_of_experience integer,
+    qualifications text,
+    working_hours_start time(6),
+    working_hours_end time(6),
+    working_days varchar(100),
+    photo_url text,
+    active boolean NOT NULL
+);
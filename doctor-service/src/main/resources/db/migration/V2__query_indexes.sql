@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_doctors_active ON doctors (id) WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_doctors_specialization_active ON doctors (specialization_id) WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_doctors_department_active ON doctors (department_id) WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_doctors_email ON doctors (email);
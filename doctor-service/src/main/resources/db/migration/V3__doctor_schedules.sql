@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS doctor_shifts (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    doctor_id integer NOT NULL REFERENCES doctors (id),
+    day_of_week varchar(16) NOT NULL,
+    start_time time(6) NOT NULL,
+    end_time time(6) NOT NULL,
+    CONSTRAINT chk_doctor_shifts_interval CHECK (start_time < end_time)
+);
+CREATE INDEX IF NOT EXISTS idx_doctor_shifts_doctor ON doctor_shifts (doctor_id);
+
+-- Rows without a doctor are clinic-wide holidays.
+CREATE TABLE IF NOT EXISTS doctor_schedule_exceptions (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    doctor_id integer REFERENCES doctors (id),
+    start_date date NOT NULL,
+    end_date date NOT NULL,
+    type varchar(32) NOT NULL,
+    start_time time(6),
+    end_time time(6),
+    reason varchar(255),
+    CONSTRAINT chk_doctor_schedule_exceptions_dates CHECK (start_date <= end_date)
+);
+CREATE INDEX IF NOT EXISTS idx_doctor_schedule_exceptions_doctor ON doctor_schedule_exceptions (doctor_id, end_date);
+CREATE INDEX IF NOT EXISTS idx_doctor_schedule_exceptions_holidays ON doctor_schedule_exceptions (end_date) WHERE doctor_id IS NULL;
@@ -0,0 +1,27 @@
+-- Every doctor-service table moves to its own <entity>_seq sequence. The column defaults keep
+-- seed data and manual inserts drawing from the same sequences.
+
+ALTER TABLE specializations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS specialization_seq INCREMENT BY 50 OWNED BY specializations.id;
+SELECT setval('specialization_seq', COALESCE(MAX(id), 0) + 1, false) FROM specializations;
+ALTER TABLE specializations ALTER COLUMN id SET DEFAULT nextval('specialization_seq');
+
+ALTER TABLE departments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS department_seq INCREMENT BY 50 OWNED BY departments.id;
+SELECT setval('department_seq', COALESCE(MAX(id), 0) + 1, false) FROM departments;
+ALTER TABLE departments ALTER COLUMN id SET DEFAULT nextval('department_seq');
+
+ALTER TABLE doctors ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS doctor_seq INCREMENT BY 50 OWNED BY doctors.id;
+SELECT setval('doctor_seq', COALESCE(MAX(id), 0) + 1, false) FROM doctors;
+ALTER TABLE doctors ALTER COLUMN id SET DEFAULT nextval('doctor_seq');
+
+ALTER TABLE doctor_shifts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS doctor_shift_seq INCREMENT BY 50 OWNED BY doctor_shifts.id;
+SELECT setval('doctor_shift_seq', COALESCE(MAX(id), 0) + 1, false) FROM doctor_shifts;
+ALTER TABLE doctor_shifts ALTER COLUMN id SET DEFAULT nextval('doctor_shift_seq');
+
+ALTER TABLE doctor_schedule_exceptions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS doctor_schedule_exception_seq INCREMENT BY 50 OWNED BY doctor_schedule_exceptions.id;
+SELECT setval('doctor_schedule_exception_seq', COALESCE(MAX(id), 0) + 1, false) FROM doctor_schedule_exceptions;
+ALTER TABLE doctor_schedule_exceptions ALTER COLUMN id SET DEFAULT nextval('doctor_schedule_exception_seq');
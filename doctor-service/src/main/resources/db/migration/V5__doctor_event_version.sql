@@ -0,0 +1,5 @@
+-- Version stamped on every doctor event. It is drawn from a sequence while the doctor row is locked
+-- by the changing transaction, so a later commit always carries a higher version and consumers can
+-- drop events that arrive out of order.
+CREATE SEQUENCE IF NOT EXISTS doctor_event_version_seq;
+ALTER TABLE doctors ADD COLUMN IF NOT EXISTS event_version bigint NOT NULL DEFAULT 0;
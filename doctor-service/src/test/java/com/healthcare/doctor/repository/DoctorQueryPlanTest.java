@@ -0,0 +1,84 @@
+package com.healthcare.doctor.repository;
+
+import com.healthcare.common.test.QueryPlans;
+import com.healthcare.doctor.PostgresIntegrationTest;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Explains the SQL behind every repository query the service calls and fails if any of them has to
+ * scan the doctor or schedule tables sequentially, i.e. if a migration lost an index a query relies
+ * on. The name search is left out: it matches substrings, which a b-tree index cannot serve.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.healthcare.common.test.RecordingStatementInspector")
+class DoctorQueryPlanTest extends PostgresIntegrationTest {
+
+    private static final String[] LARGE_TABLES = {"doctors", "doctor_shifts", "doctor_schedule_exceptions"};
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private SpecializationRepository specializationRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DoctorShiftRepository doctorShiftRepository;
+
+    @Autowired
+    private DoctorScheduleExceptionRepository doctorScheduleExceptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Runnable> queries = Map.ofEntries(
+                Map.entry("doctors findByEmail", () -> doctorRepository.findByEmail("house@example.com")),
+                Map.entry("doctors findByEmailAndActiveTrue", () -> doctorRepository.findByEmailAndActiveTrue("house@example.com")),
+                Map.entry("doctors findByLicenseNumber", () -> doctorRepository.findByLicenseNumber("LIC-1")),
+                Map.entry("doctors findByActiveTrue", () -> doctorRepository.findByActiveTrue()),
+                Map.entry("doctors findByActiveTrue paged", () -> doctorRepository.findByActiveTrue(PageRequest.of(3, 20, Sort.by("id")))),
+                Map.entry("doctors findByActiveTrue by keyset", () -> doctorRepository.findByActiveTrue(
+                        ScrollPosition.forward(Map.of("id", 10)), Sort.by("id"), Limit.of(20))),
+                Map.entry("doctors findBySpecializationAndActiveTrue", () ->
+                        doctorRepository.findBySpecializationAndActiveTrue(specializationRepository.getReferenceById(1))),
+                Map.entry("doctors findByDepartmentAndActiveTrue", () ->
+                        doctorRepository.findByDepartmentAndActiveTrue(departmentRepository.getReferenceById(1))),
+                Map.entry("shifts findByDoctorId", () -> doctorShiftRepository.findByDoctorId(1)),
+                Map.entry("shifts deleteByDoctorId", () -> doctorShiftRepository.deleteByDoctorId(1)),
+                Map.entry("exceptions findEffectiveForDoctor", () -> doctorScheduleExceptionRepository.findEffectiveForDoctor(1, FROM)),
+                Map.entry("exceptions findByDoctorIsNullAndEndDateGreaterThanEqual", () -> doctorScheduleExceptionRepository
+                        .findByDoctorIsNullAndEndDateGreaterThanEqualOrderByStartDate(FROM)),
+                Map.entry("exceptions findByIdAndDoctorId", () -> doctorScheduleExceptionRepository.findByIdAndDoctorId(1, 1)),
+                Map.entry("exceptions findByIdAndDoctorIsNull", () -> doctorScheduleExceptionRepository.findByIdAndDoctorIsNull(1)));
+
+        return queries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(query -> dynamicTest(query.getKey(),
+                        () -> QueryPlans.assertIndexed(transactionTemplate, jdbcTemplate, query.getValue(), LARGE_TABLES)));
+    }
+}
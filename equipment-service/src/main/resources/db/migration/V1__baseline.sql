@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS equipment (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(255) NOT NULL,
+    description text,
+    status varchar(255),
+    last_maintenance_date date,
+    purchase_date date NOT NULL,
+    next_maintenance_due_date date,
+    manufacturer varchar(255),
+    serial_number varchar(255) UNIQUE,
+    price numeric(38, 2) NOT NULL,
+    maintenance_interval_days integer,
+    room_id integer
+);
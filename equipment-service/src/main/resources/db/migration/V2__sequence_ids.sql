@@ -0,0 +1,6 @@
+-- Equipment ids come from equipment_seq in blocks of 50 instead of an identity column.
+
+ALTER TABLE equipment ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS equipment_seq INCREMENT BY 50 OWNED BY equipment.id;
+SELECT setval('equipment_seq', COALESCE(MAX(id), 0) + 1, false) FROM equipment;
+ALTER TABLE equipment ALTER COLUMN id SET DEFAULT nextval('equipment_seq');
@@ -449,6 +449,7 @@ const DoctorDashboard = () => {
                         case "COMPLETED":
                           return "bg-green-100 text-green-800 border-green-300";
                         case "CANCELLED":
+                        case "EXPIRED":
                           return "bg-gray-100 text-gray-800 border-gray-300";
                         case "REJECTED":
                           return "bg-red-100 text-red-800 border-red-300";
@@ -0,0 +1,39 @@
+CREATE TABLE IF NOT EXISTS users (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    username varchar(255) NOT NULL UNIQUE,
+    email varchar(255) NOT NULL UNIQUE,
+    password varchar(255) NOT NULL,
+    first_name varchar(255),
+    last_name varchar(255),
+    enabled boolean,
+    account_non_expired boolean,
+    account_non_locked boolean,
+    credentials_non_expired boolean
+);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS permissions (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(255) NOT NULL UNIQUE,
+    description varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id integer NOT NULL REFERENCES users (id),
+    role_id integer NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE IF NOT EXISTS role_permissions (
+    role_id integer NOT NULL REFERENCES roles (id),
+    permission_id integer NOT NULL REFERENCES permissions (id),
+    PRIMARY KEY (role_id, permission_id)
+);
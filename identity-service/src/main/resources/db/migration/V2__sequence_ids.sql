@@ -0,0 +1,16 @@
+-- Permissions, roles and users take ids from per-entity sequences instead of identity columns.
+
+ALTER TABLE permissions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS permission_seq INCREMENT BY 50 OWNED BY permissions.id;
+SELECT setval('permission_seq', COALESCE(MAX(id), 0) + 1, false) FROM permissions;
+ALTER TABLE permissions ALTER COLUMN id SET DEFAULT nextval('permission_seq');
+
+ALTER TABLE roles ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS role_seq INCREMENT BY 50 OWNED BY roles.id;
+SELECT setval('role_seq', COALESCE(MAX(id), 0) + 1, false) FROM roles;
+ALTER TABLE roles ALTER COLUMN id SET DEFAULT nextval('role_seq');
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS user_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('user_seq', COALESCE(MAX(id), 0) + 1, false) FROM users;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('user_seq');
@@ -74,9 +74,21 @@ public class NotificationService {
         if ("REJECTED".equalsIgnoreCase(type)) {
             return base + " has been rejected.";
         }
+        if ("CANCELLED".equalsIgnoreCase(type)) {
+            return base + " has been cancelled.";
+        }
+        if ("EXPIRED".equalsIgnoreCase(type)) {
+            return base + " has expired because it was not approved in time.";
+        }
         if ("RESCHEDULED".equalsIgnoreCase(type)) {
             return base + " has been rescheduled.";
         }
+        if ("REMINDER_24H".equalsIgnoreCase(type)) {
+            return "Reminder: " + base + " starts in 24 hours.";
+        }
+        if ("REMINDER_1H".equalsIgnoreCase(type)) {
+            return "Reminder: " + base + " starts in 1 hour.";
+        }
         return base;
     }
 }
@@ -55,6 +55,12 @@ public class HealthMetricController {
         return ResponseEntity.status(HttpStatus.CREATED).body(healthMetricService.createMetric(dto));
     }
 
+    @Operation(summary = "Create health metrics in bulk", description = "Creates up to 1000 health metrics in one transaction")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<HealthMetricDTO>> createMetrics(@Valid @RequestBody List<@Valid HealthMetricDTO> dtos) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(healthMetricService.createMetrics(dtos));
+    }
+
     @Operation(summary = "Update health metric")
     @PutMapping("/{id}")
     public ResponseEntity<HealthMetricDTO> updateMetric(@PathVariable Integer id,
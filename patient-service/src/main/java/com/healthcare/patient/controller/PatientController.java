@@ -1,5 +1,6 @@
 package com.healthcare.patient.controller;
 
+import com.healthcare.common.pagination.CursorPageDTO;
 import com.healthcare.patient.dto.PatientDTO;
 import com.healthcare.patient.service.PatientService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +38,16 @@ public class PatientController {
         return ResponseEntity.ok(patientService.getPatientsPaged(page, size, sortBy, direction));
     }
     
+    @Operation(summary = "Get patients (cursor)", description = "Retrieves patients using keyset pagination; pass nextCursor from the previous response to continue")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<PatientDTO>> getPatientsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(patientService.getPatientsByCursor(cursor, size, sortBy, direction));
+    }
+    
     @Operation(summary = "Get patient by ID", description = "Retrieves a specific patient by their ID")
     @GetMapping("/{id}")
     public ResponseEntity<PatientDTO> getPatientById(
@@ -45,6 +56,12 @@ public class PatientController {
         return ResponseEntity.ok(patientService.getPatientById(id, includeInactive));
     }
     
+    @Operation(summary = "Get patients by IDs", description = "Retrieves active patients for a list of IDs in a single lookup")
+    @GetMapping("/batch")
+    public ResponseEntity<List<PatientDTO>> getPatientsByIds(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(patientService.getPatientsByIds(ids));
+    }
+    
     @Operation(summary = "Create patient", description = "Creates a new patient")
     @PostMapping
     public ResponseEntity<PatientDTO> createPatient(@Valid @RequestBody PatientDTO patientDTO) {
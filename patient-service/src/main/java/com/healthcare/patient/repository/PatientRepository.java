@@ -1,8 +1,12 @@
 package com.healthcare.patient.repository;
 
 import com.healthcare.patient.entity.Patient;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +27,8 @@ public interface PatientRepository extends JpaRepository<Patient, Integer> {
     
     Page<Patient> findByActiveTrue(Pageable pageable);
     
+    Window<Patient> findByActiveTrue(ScrollPosition position, Sort sort, Limit limit);
+    
     List<Patient> findByNameContainingIgnoreCaseOrSurnameContainingIgnoreCase(String name, String surname);
     
     @Query("SELECT p FROM Patient p WHERE p.roomId = :roomId")
@@ -5,6 +5,7 @@ import com.healthcare.patient.entity.HealthMetric;
 import com.healthcare.patient.repository.HealthMetricRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Comparator;
@@ -15,6 +16,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HealthMetricService {
 
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final HealthMetricRepository healthMetricRepository;
 
     public List<HealthMetricDTO> getAllMetrics() {
@@ -44,9 +47,23 @@ public class HealthMetricService {
     }
 
     public HealthMetricDTO createMetric(HealthMetricDTO dto) {
-        HealthMetric metric = toEntity(dto);
-        metric.setId(null);
-        return toDto(healthMetricRepository.save(metric));
+        return toDto(healthMetricRepository.save(toEntity(dto)));
+    }
+
+    /**
+     * Stores a batch of readings, e.g. from a device sync, in one transaction and one round of JDBC batches.
+     */
+    @Transactional
+    public List<HealthMetricDTO> createMetrics(List<HealthMetricDTO> dtos) {
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " health metrics can be created at once");
+        }
+        List<HealthMetric> metrics = dtos.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        return healthMetricRepository.saveAll(metrics).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
     }
 
     public HealthMetricDTO updateMetric(Integer id, HealthMetricDTO dto) {
@@ -89,8 +106,8 @@ public class HealthMetricService {
     }
 
     private HealthMetric toEntity(HealthMetricDTO dto) {
+        // ids are always assigned by the sequence, never taken from the request
         HealthMetric metric = new HealthMetric();
-        metric.setId(dto.getId());
         metric.setPatientId(dto.getPatientId());
         metric.setRecordedAt(dto.getRecordedAt());
         metric.setSystolicBloodPressure(dto.getSystolicBloodPressure());
@@ -1,5 +1,7 @@
 package com.healthcare.patient.service;
 
+import com.healthcare.common.pagination.CursorPageDTO;
+import com.healthcare.common.pagination.KeysetCursor;
 import com.healthcare.patient.dto.PatientDTO;
 import com.healthcare.patient.entity.Patient;
 import com.healthcare.patient.repository.PatientRepository;
@@ -7,13 +9,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +28,9 @@ import java.util.stream.Collectors;
 @Transactional
 @CacheConfig(cacheNames = "patients")
 public class PatientService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    private static final Map<String, Function<String, Object>> KEYSET_SORTABLE = Map.of("id", Integer::valueOf);
+
     private final PatientRepository patientRepository;
     
     @Transactional(readOnly = true)
@@ -39,6 +49,16 @@ public class PatientService {
         return patientRepository.findByActiveTrue(pageable).map(this::toDTO);
     }
     
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PatientDTO> getPatientsByCursor(String cursor, int size, String sortBy, String direction) {
+        Sort sort = KeysetCursor.sort(sortBy, direction, KEYSET_SORTABLE);
+        Window<Patient> window = patientRepository.findByActiveTrue(
+                KeysetCursor.decode(cursor, sort, KEYSET_SORTABLE),
+                sort,
+                Limit.of(Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE))));
+        return KeysetCursor.toPage(window, this::toDTO, sort);
+    }
+    
     @Transactional(readOnly = true)
     public PatientDTO getPatientById(Integer id) {
         return getPatientById(id, false);
@@ -55,6 +75,17 @@ public class PatientService {
         return toDTO(patient);
     }
     
+    @Transactional(readOnly = true)
+    public List<PatientDTO> getPatientsByIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return patientRepository.findAllById(new HashSet<>(ids)).stream()
+                .filter(patient -> !Boolean.FALSE.equals(patient.getActive()))
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+    
     @CacheEvict(allEntries = true)
     public PatientDTO createPatient(PatientDTO patientDTO) {
         if (patientDTO.getEmail() != null && patientRepository.findByEmail(patientDTO.getEmail()).isPresent()) {
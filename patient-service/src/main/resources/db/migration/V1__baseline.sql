@@ -0,0 +1,92 @@
+CREATE TABLE IF NOT EXISTS patients (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    name varchar(255),
+    surname varchar(255),
+    date_of_birth date,
+    gender varchar(255),
+    email varchar(255),
+    phone_number varchar(255),
+    serial_number varchar(255),
+    registration_address varchar(255),
+    current_address varchar(255),
+    blood_group varchar(255),
+    room_id integer,
+    active boolean NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS medical_records (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    diagnosis varchar(255),
+    record_date timestamp(6),
+    notes text,
+    patient_id integer NOT NULL REFERENCES patients (id)
+);
+
+CREATE TABLE IF NOT EXISTS medical_conditions (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    name varchar(255),
+    description text,
+    diagnosis_date date,
+    severity varchar(255),
+    patient_id integer NOT NULL REFERENCES patients (id)
+);
+
+CREATE TABLE IF NOT EXISTS insurances (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    provider_name varchar(255),
+    policy_number varchar(255),
+    coverage_start_date date,
+    coverage_end_date date,
+    coverage_details text,
+    coverage_percentage numeric(38, 2),
+    patient_id integer NOT NULL REFERENCES patients (id),
+    is_active boolean
+);
+
+CREATE TABLE IF NOT EXISTS health_metrics (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    patient_id integer NOT NULL,
+    recorded_at date NOT NULL,
+    systolic_blood_pressure integer,
+    diastolic_blood_pressure integer,
+    heart_rate integer,
+    blood_sugar_mg_dl float(53),
+    temperature_celsius float(53),
+    oxygen_saturation integer,
+    weight_kg float(53)
+);
+
+CREATE TABLE IF NOT EXISTS prescriptions (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    medication_name varchar(255) NOT NULL,
+    dosage varchar(255) NOT NULL,
+    frequency varchar(255) NOT NULL,
+    status varchar(255) NOT NULL,
+    start_date date,
+    end_date date,
+    last_refill_date date,
+    next_refill_date date,
+    patient_id integer NOT NULL,
+    prescribing_doctor_id integer,
+    notes varchar(255)
+);
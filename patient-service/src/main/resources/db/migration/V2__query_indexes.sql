@@ -0,0 +1,9 @@
+CREATE INDEX IF NOT EXISTS idx_patients_active ON patients (id) WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_patients_email ON patients (email);
+CREATE INDEX IF NOT EXISTS idx_patients_serial_number ON patients (serial_number);
+CREATE INDEX IF NOT EXISTS idx_patients_room ON patients (room_id);
+CREATE INDEX IF NOT EXISTS idx_health_metrics_patient_recorded ON health_metrics (patient_id, recorded_at);
+CREATE INDEX IF NOT EXISTS idx_prescriptions_patient ON prescriptions (patient_id);
+CREATE INDEX IF NOT EXISTS idx_medical_records_patient ON medical_records (patient_id);
+CREATE INDEX IF NOT EXISTS idx_medical_conditions_patient ON medical_conditions (patient_id);
+CREATE INDEX IF NOT EXISTS idx_insurances_patient ON insurances (patient_id);
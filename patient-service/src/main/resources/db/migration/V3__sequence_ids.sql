@@ -0,0 +1,32 @@
+-- Patient records take ids from per-entity sequences in blocks of 50, which lets the bulk
+-- health metric imports batch their inserts.
+
+ALTER TABLE patients ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS patient_seq INCREMENT BY 50 OWNED BY patients.id;
+SELECT setval('patient_seq', COALESCE(MAX(id), 0) + 1, false) FROM patients;
+ALTER TABLE patients ALTER COLUMN id SET DEFAULT nextval('patient_seq');
+
+ALTER TABLE medical_records ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS medical_record_seq INCREMENT BY 50 OWNED BY medical_records.id;
+SELECT setval('medical_record_seq', COALESCE(MAX(id), 0) + 1, false) FROM medical_records;
+ALTER TABLE medical_records ALTER COLUMN id SET DEFAULT nextval('medical_record_seq');
+
+ALTER TABLE medical_conditions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS medical_condition_seq INCREMENT BY 50 OWNED BY medical_conditions.id;
+SELECT setval('medical_condition_seq', COALESCE(MAX(id), 0) + 1, false) FROM medical_conditions;
+ALTER TABLE medical_conditions ALTER COLUMN id SET DEFAULT nextval('medical_condition_seq');
+
+ALTER TABLE insurances ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS insurance_seq INCREMENT BY 50 OWNED BY insurances.id;
+SELECT setval('insurance_seq', COALESCE(MAX(id), 0) + 1, false) FROM insurances;
+ALTER TABLE insurances ALTER COLUMN id SET DEFAULT nextval('insurance_seq');
+
+ALTER TABLE health_metrics ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS health_metric_seq INCREMENT BY 50 OWNED BY health_metrics.id;
+SELECT setval('health_metric_seq', COALESCE(MAX(id), 0) + 1, false) FROM health_metrics;
+ALTER TABLE health_metrics ALTER COLUMN id SET DEFAULT nextval('health_metric_seq');
+
+ALTER TABLE prescriptions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS prescription_seq INCREMENT BY 50 OWNED BY prescriptions.id;
+SELECT setval('prescription_seq', COALESCE(MAX(id), 0) + 1, false) FROM prescriptions;
+ALTER TABLE prescriptions ALTER COLUMN id SET DEFAULT nextval('prescription_seq');
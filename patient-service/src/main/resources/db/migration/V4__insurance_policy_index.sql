@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_insurances_policy_number ON insurances (policy_number);
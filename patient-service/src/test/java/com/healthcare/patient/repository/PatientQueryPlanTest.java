@@ -0,0 +1,94 @@
+package com.healthcare.patient.repository;
+
+import com.healthcare.common.test.QueryPlans;
+import com.healthcare.patient.PostgresIntegrationTest;
+import com.healthcare.patient.enums.PrescriptionStatus;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Explains the SQL behind every repository query the service calls and fails if any of them has to
+ * scan a patient table sequentially, i.e. if a migration lost an index a query relies on.
+ * {@code searchPatients} is left out: it matches substrings, which a b-tree index cannot serve.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.healthcare.common.test.RecordingStatementInspector")
+class PatientQueryPlanTest extends PostgresIntegrationTest {
+
+    private static final String[] LARGE_TABLES = {
+            "patients", "health_metrics", "prescriptions", "medical_records", "medical_conditions", "insurances"};
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private HealthMetricRepository healthMetricRepository;
+
+    @Autowired
+    private InsuranceRepository insuranceRepository;
+
+    @Autowired
+    private PrescriptionRepository prescriptionRepository;
+
+    @Autowired
+    private MedicalRecordRepository medicalRecordRepository;
+
+    @Autowired
+    private MedicalConditionRepository medicalConditionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Runnable> queries = Map.ofEntries(
+                Map.entry("patients findByEmail", () -> patientRepository.findByEmail("jane@example.com")),
+                Map.entry("patients findByEmailAndActiveTrue", () -> patientRepository.findByEmailAndActiveTrue("jane@example.com")),
+                Map.entry("patients findBySerialNumber", () -> patientRepository.findBySerialNumber("P-1")),
+                Map.entry("patients findByActiveTrue", () -> patientRepository.findByActiveTrue()),
+                Map.entry("patients findByActiveTrue paged", () -> patientRepository.findByActiveTrue(PageRequest.of(3, 20, Sort.by("id")))),
+                Map.entry("patients findByActiveTrue by keyset", () -> patientRepository.findByActiveTrue(
+                        ScrollPosition.forward(Map.of("id", 10)), Sort.by("id"), Limit.of(20))),
+                Map.entry("patients findByRoomId", () -> patientRepository.findByRoomId(1)),
+                Map.entry("health metrics findByPatientId", () -> healthMetricRepository.findByPatientId(1)),
+                Map.entry("health metrics findByPatientIdAndRecordedAtBetween", () ->
+                        healthMetricRepository.findByPatientIdAndRecordedAtBetween(1, FROM, FROM.plusMonths(1))),
+                Map.entry("insurances findByPatientId", () -> insuranceRepository.findByPatientId(1)),
+                Map.entry("insurances findByPatientIdAndIsActiveTrue", () -> insuranceRepository.findByPatientIdAndIsActiveTrue(1)),
+                Map.entry("insurances findByPolicyNumber", () -> insuranceRepository.findByPolicyNumber("POL-1")),
+                Map.entry("prescriptions findByPatientId", () -> prescriptionRepository.findByPatientId(1)),
+                Map.entry("prescriptions findByPatientIdAndStatus", () ->
+                        prescriptionRepository.findByPatientIdAndStatus(1, PrescriptionStatus.ACTIVE)),
+                Map.entry("medical records findByPatientId", () -> medicalRecordRepository.findByPatientId(1)),
+                Map.entry("medical records findByPatientIdOrderByRecordDateDesc", () ->
+                        medicalRecordRepository.findByPatientIdOrderByRecordDateDesc(1)),
+                Map.entry("medical conditions findByPatientId", () -> medicalConditionRepository.findByPatientId(1)),
+                Map.entry("medical conditions findByPatientIdOrderByDiagnosisDateDesc", () ->
+                        medicalConditionRepository.findByPatientIdOrderByDiagnosisDateDesc(1)));
+
+        return queries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(query -> dynamicTest(query.getKey(),
+                        () -> QueryPlans.assertIndexed(transactionTemplate, jdbcTemplate, query.getValue(), LARGE_TABLES)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.healthcare.patient.service;
+
+import com.healthcare.patient.PostgresIntegrationTest;
+import com.healthcare.patient.dto.HealthMetricDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures rows/s of the bulk health metric import with the configured JDBC batch size against the
+ * same import with batching switched off for the session, which is how every insert ran while ids
+ * came from identity columns.
+ */
+@Tag("benchmark")
+class HealthMetricBulkInsertBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int ROWS_PER_REQUEST = 1_000;
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private HealthMetricService healthMetricService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void batchedInsertsOutrunRowAtATimeInserts() {
+        // warm up the connection pool, the JIT and the sequence caches
+        rowsPerSecond(null, 2);
+        rowsPerSecond(1, 2);
+
+        double rowAtATime = rowsPerSecond(1, REQUESTS);
+        double batched = rowsPerSecond(null, REQUESTS);
+        System.out.printf("health metrics: %,.0f rows/s row at a time, %,.0f rows/s batched%n", rowAtATime, batched);
+
+        assertThat(batched).isGreaterThan(rowAtATime);
+    }
+
+    /**
+     * Imports {@code requests} bulk requests, each in its own transaction, with the given JDBC batch
+     * size or the configured one if {@code null}.
+     */
+    private double rowsPerSecond(Integer batchSize, int requests) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long started = System.nanoTime();
+        for (int request = 0; request < requests; request++) {
+            List<HealthMetricDTO> metrics = metrics(request);
+            transactionTemplate.executeWithoutResult(status -> {
+                if (batchSize != null) {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                }
+                healthMetricService.createMetrics(metrics);
+            });
+        }
+        return (double) requests * ROWS_PER_REQUEST / ((System.nanoTime() - started) / 1e9);
+    }
+
+    private static List<HealthMetricDTO> metrics(int patientId) {
+        LocalDate firstDay = LocalDate.of(2025, 1, 1);
+        List<HealthMetricDTO> metrics = new ArrayList<>(ROWS_PER_REQUEST);
+        for (int i = 0; i < ROWS_PER_REQUEST; i++) {
+            HealthMetricDTO metric = new HealthMetricDTO();
+            metric.setPatientId(patientId);
+            metric.setRecordedAt(firstDay.plusDays(i));
+            metric.setSystolicBloodPressure(110 + i % 30);
+            metric.setDiastolicBloodPressure(70 + i % 20);
+            metric.setHeartRate(60 + i % 40);
+            metric.setWeightKg(70.0 + i % 10);
+            metrics.add(metric);
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS rooms (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date timestamp(6),
+    created_by varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by varchar(255),
+    number varchar(255) NOT NULL UNIQUE,
+    type varchar(255),
+    capacity integer,
+    floor integer,
+    current_occupancy integer,
+    is_available boolean,
+    is_active boolean
+);
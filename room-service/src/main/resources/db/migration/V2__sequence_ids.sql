@@ -0,0 +1,6 @@
+-- Room ids come from room_seq in blocks of 50 instead of an identity column.
+
+ALTER TABLE rooms ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS room_seq INCREMENT BY 50 OWNED BY rooms.id;
+SELECT setval('room_seq', COALESCE(MAX(id), 0) + 1, false) FROM rooms;
+ALTER TABLE rooms ALTER COLUMN id SET DEFAULT nextval('room_seq');